@@ -0,0 +1,75 @@
+package benchmarks;
+
+import api.clients.BaseApiClient;
+import api.clients.UserApiClient;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building request specifications and of a full request against an in-process server.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.level=WARN")
+@State(Scope.Benchmark)
+public class ApiClientBenchmark {
+    private LocalApiServer server;
+    private SpecClient specClient;
+    private UserApiClient userClient;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = new LocalApiServer();
+        System.setProperty("api.base.url", server.getBaseUrl());
+        specClient = new SpecClient();
+        userClient = new UserApiClient();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public RequestSpecification getBaseRequest() {
+        return specClient.baseRequest();
+    }
+
+    @Benchmark
+    public BaseApiClient newClient() {
+        return new UserApiClient();
+    }
+
+    @Benchmark
+    public Response getUserById() {
+        Response response = userClient.getUserById(1L);
+        response.then().statusCode(200);
+        return response;
+    }
+
+    /**
+     * Exposes the protected getBaseRequest() to the benchmark.
+     */
+    static class SpecClient extends BaseApiClient {
+        RequestSpecification baseRequest() {
+            return getBaseRequest();
+        }
+    }
+}
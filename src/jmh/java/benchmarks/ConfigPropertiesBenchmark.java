@@ -0,0 +1,43 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.ConfigProperties;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of configuration lookups, which run on every driver launch, wait and pool lease.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigPropertiesBenchmark {
+
+    @Benchmark
+    public String getProperty() {
+        return ConfigProperties.getProperty("browser", "chrome");
+    }
+
+    @Benchmark
+    public String getMissingProperty() {
+        return ConfigProperties.getProperty("benchmark.missing", "default");
+    }
+
+    @Benchmark
+    public int getIntProperty() {
+        return ConfigProperties.getIntProperty("driver.pool.maxSize", 4);
+    }
+
+    @Benchmark
+    public boolean getBooleanProperty() {
+        return ConfigProperties.getBooleanProperty("chrome.headless", false);
+    }
+}
@@ -0,0 +1,58 @@
+package benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * In-process HTTP server that answers every request with a fixed user, so API client
+ * benchmarks don't depend on the network or a real backend.
+ */
+public class LocalApiServer implements AutoCloseable {
+
+    // Same shape as the users returned by the real API
+    public static final String USER_JSON = "{\"id\":1,\"username\":\"Bret\",\"email\":\"Sincere@april.biz\","
+        + "\"firstName\":\"Leanne\",\"lastName\":\"Graham\",\"phone\":\"1-770-736-8031 x56442\","
+        + "\"website\":\"hildegard.org\",\"address\":{\"street\":\"Kulas Light\",\"suite\":\"Apt. 556\","
+        + "\"city\":\"Gwenborough\",\"zipcode\":\"92998-3874\",\"geo\":{\"lat\":\"-37.3159\",\"lng\":\"81.1496\"}},"
+        + "\"company\":{\"name\":\"Romaguera-Crona\",\"catchPhrase\":\"Multi-layered client-server neural-net\","
+        + "\"bs\":\"harness real-time e-markets\"}}";
+
+    private final HttpServer server;
+
+    /**
+     * Start the server on a free local port.
+     *
+     * @throws IOException if the server cannot be started
+     */
+    public LocalApiServer() throws IOException {
+        byte[] body = USER_JSON.getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    /**
+     * Gets the base URL of the server.
+     *
+     * @return Base URL, e.g. http://127.0.0.1:54321
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,108 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+import pages.BasePage;
+import pages.LoginPage;
+import pages.PageRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating page objects, with and without PageFactory.initElements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PageBenchmark {
+    private StubWebDriver driver;
+    private PageRegistry registry;
+
+    @Setup
+    public void setUp() {
+        driver = new StubWebDriver();
+        registry = new PageRegistry(driver);
+    }
+
+    /**
+     * Page built on PageElement fields; BasePage skips PageFactory.
+     */
+    @Benchmark
+    public BasePage loginPage() {
+        return new LoginPage(driver);
+    }
+
+    /**
+     * Page with @FindBy fields; BasePage runs PageFactory.initElements.
+     */
+    @Benchmark
+    public BasePage findByPage() {
+        return new FindByPage(driver);
+    }
+
+    /**
+     * PageFactory.initElements on its own, for comparison.
+     */
+    @Benchmark
+    public Object pageFactoryInitElements() {
+        return PageFactory.initElements(driver, FindByFields.class);
+    }
+
+    /**
+     * Repeated lookup of an already created page through the registry.
+     */
+    @Benchmark
+    public BasePage registryLookup() {
+        return registry.get(LoginPage.class);
+    }
+
+    /**
+     * Page object in the classic PageFactory style.
+     */
+    public static class FindByPage extends BasePage {
+        @FindBy(id = "username")
+        private WebElement username;
+
+        @FindBy(id = "password")
+        private WebElement password;
+
+        @FindBy(id = "loginBtn")
+        private WebElement loginButton;
+
+        public FindByPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    /**
+     * Plain class with @FindBy fields, initialized by PageFactory without BasePage.
+     */
+    public static class FindByFields {
+        @FindBy(id = "username")
+        private WebElement username;
+
+        @FindBy(id = "password")
+        private WebElement password;
+
+        @FindBy(id = "loginBtn")
+        private WebElement loginButton;
+
+        public FindByFields(WebDriver driver) {
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package benchmarks;
+
+import api.clients.CachedJacksonObjectMapper;
+import api.models.JsonMappers;
+import api.models.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of User JSON (de)serialization: a shared ObjectMapper, the cached JsonMappers
+ * readers and writers, and REST Assured's response.as() with its default mapper
+ * lookup versus the cached mapper the API clients register.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserJsonBenchmark {
+    private ObjectMapper mapper;
+    private User user;
+    private Response response;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = new ObjectMapper();
+        user = mapper.readValue(LocalApiServer.USER_JSON, User.class);
+        response = new ResponseBuilder()
+            .setStatusCode(200)
+            .setContentType(ContentType.JSON)
+            .setBody(LocalApiServer.USER_JSON)
+            .build();
+    }
+
+    @Benchmark
+    public User deserialize() throws IOException {
+        return mapper.readValue(LocalApiServer.USER_JSON, User.class);
+    }
+
+    @Benchmark
+    public String serialize() throws IOException {
+        return mapper.writeValueAsString(user);
+    }
+
+    @Benchmark
+    public User deserializeWithCachedReader() throws IOException {
+        return JsonMappers.readerFor(User.class).readValue(LocalApiServer.USER_JSON);
+    }
+
+    @Benchmark
+    public String serializeWithCachedWriter() throws IOException {
+        return JsonMappers.writerFor(User.class).writeValueAsString(user);
+    }
+
+    /**
+     * REST Assured's default mapping, which looks up and creates a mapper per call.
+     */
+    @Benchmark
+    public User responseAsWithDefaultMapper() {
+        return response.as(User.class);
+    }
+
+    @Benchmark
+    public User responseAsWithCachedMapper() {
+        return response.as(User.class, CachedJacksonObjectMapper.INSTANCE);
+    }
+
+    /**
+     * A new ObjectMapper per call, which throws away Jackson's serializer caches.
+     */
+    @Benchmark
+    public User deserializeWithNewMapper() throws IOException {
+        return new ObjectMapper().readValue(LocalApiServer.USER_JSON, User.class);
+    }
+}
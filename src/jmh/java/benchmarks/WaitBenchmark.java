@@ -0,0 +1,77 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.WaitEngine;
+import utils.WebDriverUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building and satisfying explicit waits when the condition holds immediately,
+ * i.e. the overhead every wait adds on top of the browser round trips.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WaitBenchmark {
+    private static final By LOCATOR = By.id("username");
+
+    private StubWebDriver driver;
+
+    @Setup
+    public void setUp() {
+        driver = new StubWebDriver();
+    }
+
+    @TearDown
+    public void tearDown() {
+        WaitEngine.discard(driver);
+    }
+
+    @Benchmark
+    public WaitEngine waitEngineLookup() {
+        return WaitEngine.forDriver(driver);
+    }
+
+    @Benchmark
+    public WebElement waitForElementToBeVisible() {
+        return WebDriverUtils.waitForElementToBeVisible(driver, LOCATOR);
+    }
+
+    @Benchmark
+    public WebElement waitForElementToBeClickable() {
+        return WebDriverUtils.waitForElementToBeClickable(driver, LOCATOR);
+    }
+
+    @Benchmark
+    public void waitForPageToLoad() {
+        WebDriverUtils.waitForPageToLoad(driver);
+    }
+
+    /**
+     * Baseline: a new WebDriverWait per call, as the framework did before WaitEngine.
+     */
+    @Benchmark
+    public WebElement webDriverWaitPerCall() {
+        return new WebDriverWait(driver, Duration.ofSeconds(10))
+            .until(ExpectedConditions.visibilityOfElementLocated(LOCATOR));
+    }
+}
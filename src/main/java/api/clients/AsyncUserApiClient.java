@@ -0,0 +1,200 @@
+package api.clients;
+
+import api.models.JsonMappers;
+import api.models.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import utils.ConfigProperties;
+import utils.ExecutorFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking client for the User API endpoints.
+ * Offers the same operations as UserApiClient, but each call returns immediately with a
+ * CompletableFuture, so many requests (e.g. test data setup) can be in flight at once.
+ *
+ * Requests are sent with java.net.http.HttpClient over a shared connection pool. Results are
+ * REST Assured Responses, so they can be checked and mapped exactly like UserApiClient results.
+ *
+ * Configuration (config.properties or system properties):
+ * api.http.requestTimeout=30
+ *
+ * Usage example:
+ * AsyncUserApiClient client = new AsyncUserApiClient();
+ * List<CompletableFuture<Response>> created = users.stream().map(client::createUser).collect(Collectors.toList());
+ * CompletableFuture.allOf(created.toArray(new CompletableFuture<?>[0])).join();
+ */
+public class AsyncUserApiClient {
+    private static final Logger logger = LogManager.getLogger(AsyncUserApiClient.class);
+
+    private static final int DEFAULT_REQUEST_TIMEOUT = 30; // seconds
+    private static final String JSON = "application/json";
+
+    // Shared so all clients reuse the same connections; response handling runs on the
+    // configured executor strategy (virtual threads with executor.strategy=virtual).
+    // The connect timeout is fixed when the class loads, so later config reloads don't change it
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(getRequestTimeout())
+            .executor(ExecutorFactory.newUnboundedExecutor("api-client"))
+            .build();
+
+    private final String baseUrl;
+    private final Duration requestTimeout;
+
+    public AsyncUserApiClient() {
+        this.baseUrl = System.getProperty("api.base.url", "https://api.example.com");
+        this.requestTimeout = getRequestTimeout();
+
+        logger.info("Initialized AsyncUserApiClient with base URL: {}", baseUrl);
+    }
+
+    /**
+     * Retrieves all users from the API.
+     *
+     * @return Future of the response containing the list of all users
+     */
+    public CompletableFuture<Response> getAllUsers() {
+        logger.info("Fetching all users");
+        return send(newRequest(UserApiClient.USERS_ENDPOINT).GET());
+    }
+
+    /**
+     * Retrieves a specific user by their ID.
+     *
+     * @param userId The ID of the user to retrieve
+     * @return Future of the response containing the user details
+     */
+    public CompletableFuture<Response> getUserById(Long userId) {
+        logger.info("Fetching user with ID: {}", userId);
+        return send(newRequest(userPath(userId)).GET());
+    }
+
+    /**
+     * Creates a new user.
+     *
+     * @param user The user object containing the details to create
+     * @return Future of the response containing the created user details
+     */
+    public CompletableFuture<Response> createUser(User user) {
+        logger.info("Creating new user: {}", user.getUsername());
+        return send(newRequest(UserApiClient.USERS_ENDPOINT).POST(jsonBody(user)));
+    }
+
+    /**
+     * Updates an existing user.
+     *
+     * @param userId The ID of the user to update
+     * @param user The updated user details
+     * @return Future of the response containing the updated user details
+     */
+    public CompletableFuture<Response> updateUser(Long userId, User user) {
+        logger.info("Updating user with ID: {}", userId);
+        return send(newRequest(userPath(userId)).PUT(jsonBody(user)));
+    }
+
+    /**
+     * Deletes a user.
+     *
+     * @param userId The ID of the user to delete
+     * @return Future of the response indicating the result of the deletion
+     */
+    public CompletableFuture<Response> deleteUser(Long userId) {
+        logger.info("Deleting user with ID: {}", userId);
+        return send(newRequest(userPath(userId)).DELETE());
+    }
+
+    /**
+     * Creates a request builder for an endpoint with the common JSON headers.
+     *
+     * @param endpoint The API endpoint to call
+     * @return Request builder
+     */
+    private HttpRequest.Builder newRequest(String endpoint) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + endpoint))
+                .timeout(requestTimeout)
+                .header("Content-Type", JSON)
+                .header("Accept", JSON);
+    }
+
+    /**
+     * Sends a request without blocking and converts the reply to a REST Assured Response.
+     *
+     * @param request The request to send
+     * @return Future of the response; completes exceptionally on connection errors and timeouts
+     */
+    private CompletableFuture<Response> send(HttpRequest.Builder request) {
+        return HTTP_CLIENT.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(AsyncUserApiClient::toResponse);
+    }
+
+    /**
+     * Converts a java.net.http response to a REST Assured Response.
+     *
+     * @param httpResponse The HTTP response
+     * @return REST Assured Response with status, headers and body
+     */
+    private static Response toResponse(HttpResponse<byte[]> httpResponse) {
+        List<Header> headers = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : httpResponse.headers().map().entrySet()) {
+            for (String value : entry.getValue()) {
+                headers.add(new Header(entry.getKey(), value));
+            }
+        }
+        return new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setStatusLine((httpResponse.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1")
+                        + " " + httpResponse.statusCode())
+                .setHeaders(new Headers(headers))
+                .setContentType(httpResponse.headers().firstValue("Content-Type").orElse(JSON))
+                .setBody(httpResponse.body())
+                .build();
+    }
+
+    /**
+     * Serializes a request body as JSON.
+     *
+     * @param body The request body to send
+     * @return Body publisher
+     */
+    private static HttpRequest.BodyPublisher jsonBody(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(JsonMappers.writerFor(body.getClass()).writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize request body", e);
+        }
+    }
+
+    /**
+     * Builds the path of a single user.
+     *
+     * @param userId The ID of the user
+     * @return Endpoint path
+     */
+    private static String userPath(Long userId) {
+        return UserApiClient.USER_BY_ID_ENDPOINT.replace("{id}", userId.toString());
+    }
+
+    /**
+     * Get the configured request timeout, used for both connecting and whole requests.
+     *
+     * @return Request timeout
+     */
+    private static Duration getRequestTimeout() {
+        return Duration.ofSeconds(Math.max(1,
+                ConfigProperties.getIntProperty("api.http.requestTimeout", DEFAULT_REQUEST_TIMEOUT)));
+    }
+}
@@ -1,32 +1,66 @@
 package api.clients;
 
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.FilterContext;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
 import io.restassured.specification.RequestSpecification;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import utils.ConfigProperties;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Base API client that provides common functionality for all API clients.
  * This class handles the basic setup and configuration for REST Assured.
+ *
+ * The request specification is built once per base URL and shared by all clients.
+ * Requests go through one keep-alive HTTP client backed by a connection pool, so
+ * connections (and TLS sessions) are reused across requests, clients and threads.
+ *
+ * Configuration (config.properties or system properties):
+ * api.http.maxConnectionsPerRoute=20
+ * api.http.maxConnections=100
  */
+@SuppressWarnings("deprecation") // REST Assured 5 still requires the Apache HttpClient 4 AbstractHttpClient API
 public class BaseApiClient {
     protected static final Logger logger = LogManager.getLogger(BaseApiClient.class);
+
+    // Default connection pool settings
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+    private static final int DEFAULT_MAX_CONNECTIONS = 100;
+
+    // Shared by every spec, so all clients draw from the same connection pool
+    private static final RestAssuredConfig POOLED_CONFIG = createPooledConfig();
+
+    // Base URL -> pre-built request specification
+    private static final Map<String, RequestSpecification> SPECS = new ConcurrentHashMap<>();
+
+    // Base URL -> pre-built request specification that leaves the response body unread
+    private static final Map<String, RequestSpecification> STREAMING_SPECS = new ConcurrentHashMap<>();
+
     protected RequestSpecification spec;
     protected String baseUrl;
     
     /**
-     * Creates and configures a base request specification with common settings.
-     * This includes setting the base URI and content type.
+     * Creates a request from the shared specification for this client's base URL.
+     * The specification carries the base URI, content type and pooled connection config;
+     * the returned request is a fresh copy, so callers may customize it freely.
      * 
      * @return Configured RequestSpecification object
      */
     protected RequestSpecification getBaseRequest() {
-        return RestAssured.given()
-                .baseUri(baseUrl)
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON);
+        return RestAssured.given().spec(spec);
     }
     
     /**
@@ -39,6 +73,20 @@ public class BaseApiClient {
         return getBaseRequest().get(endpoint);
     }
     
+    /**
+     * Performs a GET request without reading the response body, so it can be consumed
+     * as a stream with response.asInputStream(). The caller must close that stream to
+     * return the connection to the pool.
+     * 
+     * @param endpoint The API endpoint to call
+     * @return Response object whose body has not been read yet
+     */
+    protected Response getStreaming(String endpoint) {
+        RequestSpecification streamingSpec = STREAMING_SPECS.computeIfAbsent(baseUrl,
+                url -> createSpecBuilder(url).build());
+        return RestAssured.given().spec(streamingSpec).get(endpoint);
+    }
+    
     /**
      * Performs a POST request to the specified endpoint with the given body.
      * 
@@ -73,10 +121,79 @@ public class BaseApiClient {
     
     public BaseApiClient() {
         this.baseUrl = System.getProperty("api.base.url", "https://api.example.com");
-        this.spec = getBaseRequest();
+        this.spec = SPECS.computeIfAbsent(baseUrl, BaseApiClient::buildSpec);
         
         logger.info("Initialized BaseApiClient with base URL: {}", baseUrl);
     }
+
+    /**
+     * Builds the shared request specification for a base URL.
+     *
+     * @param baseUrl The base URL
+     * @return Request specification with base URI, content type and pooled connection config
+     */
+    private static RequestSpecification buildSpec(String baseUrl) {
+        return createSpecBuilder(baseUrl)
+                .addFilter(BaseApiClient::bufferResponseBody)
+                .build();
+    }
+
+    /**
+     * Creates a request specification builder with the settings shared by all specs.
+     *
+     * @param baseUrl The base URL
+     * @return Builder with base URI, content type and pooled connection config
+     */
+    private static RequestSpecBuilder createSpecBuilder(String baseUrl) {
+        return new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON)
+                .setConfig(POOLED_CONFIG);
+    }
+
+    /**
+     * Reads the response body right away. REST Assured otherwise reads it lazily and keeps
+     * the pooled connection leased until the body is consumed, which a caller that only
+     * checks the status code never does.
+     *
+     * @param requestSpec The request being sent
+     * @param responseSpec The expected response
+     * @param context Filter chain
+     * @return The response with its body buffered
+     */
+    private static Response bufferResponseBody(FilterableRequestSpecification requestSpec,
+                                               FilterableResponseSpecification responseSpec,
+                                               FilterContext context) {
+        Response response = context.next(requestSpec, responseSpec);
+        response.asByteArray();
+        return response;
+    }
+
+    /**
+     * Creates a REST Assured config that reuses one HTTP client with a pooling,
+     * keep-alive connection manager instead of opening new connections per request,
+     * and maps bodies with the shared Jackson readers and writers.
+     *
+     * @return REST Assured config
+     */
+    private static RestAssuredConfig createPooledConfig() {
+        PoolingClientConnectionManager connectionManager = new PoolingClientConnectionManager();
+        connectionManager.setDefaultMaxPerRoute(Math.max(1, ConfigProperties.getIntProperty(
+                "api.http.maxConnectionsPerRoute", DEFAULT_MAX_CONNECTIONS_PER_ROUTE)));
+        connectionManager.setMaxTotal(Math.max(connectionManager.getDefaultMaxPerRoute(),
+                ConfigProperties.getIntProperty("api.http.maxConnections", DEFAULT_MAX_CONNECTIONS)));
+        Runtime.getRuntime().addShutdownHook(new Thread(connectionManager::shutdown, "api-connection-pool-shutdown"));
+
+        logger.info("Initialized API connection pool with max {} connections per route",
+                connectionManager.getDefaultMaxPerRoute());
+        return RestAssured.config()
+                .httpClient(HttpClientConfig.httpClientConfig()
+                        .reuseHttpClientInstance()
+                        .httpClientFactory(() -> new DefaultHttpClient(connectionManager)))
+                .objectMapperConfig(ObjectMapperConfig.objectMapperConfig()
+                        .defaultObjectMapper(CachedJacksonObjectMapper.INSTANCE));
+    }
     
     protected void logRequest(String method, String endpoint, Object body) {
         logger.info("API Request - Method: {}, Endpoint: {}, Body: {}", method, endpoint, body);
@@ -0,0 +1,344 @@
+package api.clients;
+
+import api.models.JsonMappers;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import utils.ConfigProperties;
+import utils.ExecutorFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs bulk API operations for the API clients.
+ *
+ * Items are sent in batches to a bulk endpoint when one is configured. If the server
+ * answers 404, 405 or 501 the endpoint is remembered as unsupported and the items are
+ * sent one request each instead. Either way requests run on a bounded number of
+ * threads shared by all bulk operations and are rate limited. Idempotent requests are
+ * retried on connection errors, 429 and 502-504; requests that are not idempotent, such
+ * as POST creates, only on 429 and 503, where the server has not processed the request.
+ *
+ * Configuration (config.properties or system properties):
+ * api.bulk.batchSize=500
+ * api.bulk.concurrency=16
+ * api.bulk.rateLimit=0 (requests per second, 0 = unlimited)
+ * api.bulk.maxRetries=3
+ * api.bulk.retryBackoffMillis=200
+ */
+class BulkExecutor {
+    private static final Logger logger = LogManager.getLogger(BulkExecutor.class);
+
+    // Default bulk settings
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int DEFAULT_CONCURRENCY = 16;
+    private static final int DEFAULT_RATE_LIMIT = 0;
+    private static final int DEFAULT_MAX_RETRIES = 3;
+    private static final int DEFAULT_RETRY_BACKOFF_MILLIS = 200;
+    private static final long MAX_BACKOFF_MILLIS = 10_000;
+
+    private static final Set<Integer> RETRYABLE_STATUS_CODES = Set.of(429, 502, 503, 504);
+    private static final Set<Integer> NOT_PROCESSED_STATUS_CODES = Set.of(429, 503);
+    private static final Set<Integer> UNSUPPORTED_STATUS_CODES = Set.of(404, 405, 501);
+
+    // Bulk endpoints the server turned out not to support, shared by all clients
+    private static final Set<String> UNSUPPORTED_ENDPOINTS = ConcurrentHashMap.newKeySet();
+
+    // Threads for bulk requests, shared by all clients so that api.bulk.concurrency bounds them all
+    private static final ExecutorService EXECUTOR = ExecutorFactory.newFixedExecutor("api-bulk",
+        Math.max(1, ConfigProperties.getIntProperty("api.bulk.concurrency", DEFAULT_CONCURRENCY)));
+
+    private final int batchSize;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private final RateLimiter rateLimiter;
+
+    BulkExecutor() {
+        this.batchSize = Math.max(1, ConfigProperties.getIntProperty("api.bulk.batchSize", DEFAULT_BATCH_SIZE));
+        this.maxRetries = Math.max(0, ConfigProperties.getIntProperty("api.bulk.maxRetries", DEFAULT_MAX_RETRIES));
+        this.retryBackoffMillis = Math.max(0,
+            ConfigProperties.getIntProperty("api.bulk.retryBackoffMillis", DEFAULT_RETRY_BACKOFF_MILLIS));
+        this.rateLimiter = new RateLimiter(ConfigProperties.getIntProperty("api.bulk.rateLimit", DEFAULT_RATE_LIMIT));
+    }
+
+    /**
+     * Runs an operation for every item.
+     *
+     * @param items Items to process
+     * @param bulkEndpoint URL of the bulk endpoint, or null if there is none
+     * @param batchCall Sends one batch to the bulk endpoint; ignored without a bulk endpoint
+     * @param splitter Splits a successful bulk response into one response per item of the batch
+     * @param singleCall Sends one item on its own
+     * @param idempotent Whether repeating a call is harmless, which allows retries after connection errors
+     * @param <I> The item type
+     * @return Per-item results in input order
+     */
+    <I> BulkResult<I> execute(List<I> items, String bulkEndpoint,
+                              Function<List<I>, Response> batchCall,
+                              Function<Response, List<Response>> splitter,
+                              Function<I, Response> singleCall,
+                              boolean idempotent) {
+        List<BulkResult.ItemResult<I>> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+        List<Future<?>> submitted = new ArrayList<>();
+        try {
+            List<Integer> remaining = new ArrayList<>();
+            if (bulkEndpoint != null && !UNSUPPORTED_ENDPOINTS.contains(bulkEndpoint)) {
+                List<Future<List<Integer>>> batches = new ArrayList<>();
+                for (int start = 0; start < items.size(); start += batchSize) {
+                    int from = start;
+                    int to = Math.min(items.size(), start + batchSize);
+                    batches.add(EXECUTOR.submit(
+                        () -> runBatch(items, from, to, bulkEndpoint, batchCall, splitter, idempotent, results)));
+                }
+                submitted.addAll(batches);
+                for (Future<List<Integer>> batch : batches) {
+                    remaining.addAll(batch.get());
+                }
+            } else {
+                for (int i = 0; i < items.size(); i++) {
+                    remaining.add(i);
+                }
+            }
+
+            List<Future<?>> singles = new ArrayList<>();
+            for (int index : remaining) {
+                I item = items.get(index);
+                singles.add(EXECUTOR.submit(
+                    () -> results.set(index, toItemResult(item, call(() -> singleCall.apply(item), idempotent)))));
+            }
+            submitted.addAll(singles);
+            for (Future<?> single : singles) {
+                single.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running bulk operation", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Bulk operation failed", e.getCause());
+        } finally {
+            // Stop whatever is left of this operation after a failure; a no-op once all are done
+            for (Future<?> future : submitted) {
+                future.cancel(true);
+            }
+        }
+
+        BulkResult<I> result = new BulkResult<>(results);
+        logger.info("Bulk operation finished: {} items, {} failed", items.size(), result.getFailed().size());
+        return result;
+    }
+
+    /**
+     * Sends one batch to the bulk endpoint and records a result for each of its items.
+     *
+     * @param items All items
+     * @param from Index of the batch's first item
+     * @param to Index after the batch's last item
+     * @param bulkEndpoint URL of the bulk endpoint
+     * @param batchCall Sends the batch
+     * @param splitter Splits a successful bulk response into one response per item
+     * @param idempotent Whether repeating the call is harmless
+     * @param results Results to fill in
+     * @param <I> The item type
+     * @return Indexes of the items that still have to be sent one by one
+     */
+    private <I> List<Integer> runBatch(List<I> items, int from, int to, String bulkEndpoint,
+                                       Function<List<I>, Response> batchCall,
+                                       Function<Response, List<Response>> splitter,
+                                       boolean idempotent,
+                                       List<BulkResult.ItemResult<I>> results) {
+        List<Integer> fallback = new ArrayList<>();
+        if (UNSUPPORTED_ENDPOINTS.contains(bulkEndpoint)) {
+            addRange(fallback, from, to);
+            return fallback;
+        }
+
+        List<I> batch = items.subList(from, to);
+        Attempt attempt = call(() -> batchCall.apply(batch), idempotent);
+        Response response = attempt.response;
+        if (response != null && UNSUPPORTED_STATUS_CODES.contains(response.getStatusCode())) {
+            if (UNSUPPORTED_ENDPOINTS.add(bulkEndpoint)) {
+                logger.warn("Bulk endpoint {} answered {}, sending items one by one",
+                    bulkEndpoint, response.getStatusCode());
+            }
+            addRange(fallback, from, to);
+            return fallback;
+        }
+
+        List<Response> itemResponses = response != null && response.getStatusCode() < 300
+            ? splitter.apply(response) : null;
+        for (int i = from; i < to; i++) {
+            Response itemResponse = itemResponses != null && itemResponses.size() == batch.size()
+                ? itemResponses.get(i - from) : response;
+            results.set(i, new BulkResult.ItemResult<>(items.get(i), itemResponse, attempt.error, attempt.attempts));
+        }
+        return fallback;
+    }
+
+    /**
+     * Makes a request, retrying retryable failures with exponential backoff. A request that
+     * is not idempotent is only retried when the server answered that it did not process it.
+     *
+     * @param request The request to make
+     * @param idempotent Whether repeating the request is harmless
+     * @return Outcome of the last attempt
+     */
+    private Attempt call(Supplier<Response> request, boolean idempotent) {
+        int attempts = 0;
+        while (true) {
+            attempts++;
+            Response response = null;
+            Exception error = null;
+            try {
+                rateLimiter.acquire();
+                response = request.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Attempt(null, e, attempts);
+            } catch (Exception e) {
+                // REST Assured rethrows I/O errors such as ConnectException without wrapping them
+                error = e;
+            }
+
+            boolean retryable = idempotent
+                ? error != null || RETRYABLE_STATUS_CODES.contains(response.getStatusCode())
+                : error == null && NOT_PROCESSED_STATUS_CODES.contains(response.getStatusCode());
+            if (!retryable || attempts > maxRetries) {
+                return new Attempt(response, error, attempts);
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(getBackoffMillis(attempts, response));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Attempt(response, error != null ? error : e, attempts);
+            }
+        }
+    }
+
+    /**
+     * Get the wait before the next attempt, honouring a Retry-After header in seconds.
+     *
+     * @param attempts Attempts made so far
+     * @param response Last response, or null after a connection error
+     * @return Wait in milliseconds
+     */
+    private long getBackoffMillis(int attempts, Response response) {
+        if (response != null && response.getHeader("Retry-After") != null) {
+            try {
+                return Math.min(MAX_BACKOFF_MILLIS,
+                    TimeUnit.SECONDS.toMillis(Long.parseLong(response.getHeader("Retry-After").trim())));
+            } catch (NumberFormatException e) {
+                // HTTP-date form, use the exponential backoff instead
+            }
+        }
+        return Math.min(MAX_BACKOFF_MILLIS, retryBackoffMillis << Math.min(attempts - 1, 16));
+    }
+
+    /**
+     * Splits a bulk response whose body is a JSON array into one response per array element.
+     * Each element response keeps the status code and headers of the bulk response.
+     *
+     * @param response Bulk response
+     * @return Element responses, or an empty list if the body is not a JSON array
+     */
+    static List<Response> splitJsonArray(Response response) {
+        try {
+            JsonNode body = JsonMappers.getObjectMapper().readTree(response.asByteArray());
+            if (body == null || !body.isArray()) {
+                return Collections.emptyList();
+            }
+            List<Response> responses = new ArrayList<>(body.size());
+            for (JsonNode element : body) {
+                responses.add(new ResponseBuilder()
+                    .clone(response)
+                    .setBody(JsonMappers.getObjectMapper().writeValueAsBytes(element))
+                    .build());
+            }
+            return responses;
+        } catch (Exception e) {
+            logger.warn("Bulk response is not a JSON array: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Create the result of an item sent on its own.
+     *
+     * @param item The item
+     * @param attempt Outcome of its request
+     * @param <I> The item type
+     * @return Item result
+     */
+    private <I> BulkResult.ItemResult<I> toItemResult(I item, Attempt attempt) {
+        return new BulkResult.ItemResult<>(item, attempt.response, attempt.error, attempt.attempts);
+    }
+
+    /**
+     * Add the indexes of a range.
+     *
+     * @param indexes List to add to
+     * @param from First index
+     * @param to Index after the last one
+     */
+    private static void addRange(List<Integer> indexes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            indexes.add(i);
+        }
+    }
+
+    /**
+     * Outcome of a request after retries.
+     */
+    private static class Attempt {
+        private final Response response;
+        private final Exception error;
+        private final int attempts;
+
+        Attempt(Response response, Exception error, int attempts) {
+            this.response = response;
+            this.error = error;
+            this.attempts = attempts;
+        }
+    }
+
+    /**
+     * Spaces requests evenly to stay under a number of requests per second.
+     */
+    private static class RateLimiter {
+        private final long intervalNanos;
+        private final AtomicLong nextSlot = new AtomicLong(System.nanoTime());
+
+        RateLimiter(int requestsPerSecond) {
+            this.intervalNanos = requestsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / requestsPerSecond : 0;
+        }
+
+        /**
+         * Waits for the next free slot.
+         *
+         * @throws InterruptedException if interrupted while waiting
+         */
+        void acquire() throws InterruptedException {
+            if (intervalNanos == 0) {
+                return;
+            }
+            long now = System.nanoTime();
+            long slot = nextSlot.getAndUpdate(next -> Math.max(next, now) + intervalNanos);
+            long wait = Math.max(slot, now) - now;
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package api.clients;
+
+import io.restassured.response.Response;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Per-item outcome of a bulk operation such as UserApiClient.createUsers.
+ * Results are in the same order as the items that were passed in.
+ *
+ * @param <I> The item type, e.g. User for creates or Long IDs for deletes
+ */
+public class BulkResult<I> {
+    private final List<ItemResult<I>> results;
+
+    BulkResult(List<ItemResult<I>> results) {
+        this.results = Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Gets the result of every item, in input order.
+     *
+     * @return Item results
+     */
+    public List<ItemResult<I>> getResults() {
+        return results;
+    }
+
+    /**
+     * Gets the results of the items that succeeded.
+     *
+     * @return Successful item results
+     */
+    public List<ItemResult<I>> getSucceeded() {
+        return results.stream().filter(ItemResult::isSuccess).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the results of the items that failed after all retries.
+     *
+     * @return Failed item results
+     */
+    public List<ItemResult<I>> getFailed() {
+        return results.stream().filter(result -> !result.isSuccess()).collect(Collectors.toList());
+    }
+
+    /**
+     * Checks whether every item succeeded.
+     *
+     * @return true if no item failed
+     */
+    public boolean allSucceeded() {
+        return results.stream().allMatch(ItemResult::isSuccess);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkResult{items=" + results.size() + ", failed=" + getFailed().size() + "}";
+    }
+
+    /**
+     * Outcome of a single item.
+     *
+     * @param <I> The item type
+     */
+    public static class ItemResult<I> {
+        private final I item;
+        private final Response response;
+        private final Exception error;
+        private final int attempts;
+
+        ItemResult(I item, Response response, Exception error, int attempts) {
+            this.item = item;
+            this.response = response;
+            this.error = error;
+            this.attempts = attempts;
+        }
+
+        /**
+         * Gets the item this result belongs to.
+         *
+         * @return The input item
+         */
+        public I getItem() {
+            return item;
+        }
+
+        /**
+         * Checks whether the item succeeded (2xx status code).
+         *
+         * @return true on success
+         */
+        public boolean isSuccess() {
+            return response != null && response.getStatusCode() >= 200 && response.getStatusCode() < 300;
+        }
+
+        /**
+         * Gets the response for this item. When the item was sent through a bulk endpoint,
+         * the body holds this item's entry of the bulk response.
+         *
+         * @return Response, or null if the request failed without one
+         */
+        public Response getResponse() {
+            return response;
+        }
+
+        /**
+         * Gets the status code of the last attempt.
+         *
+         * @return Status code, or -1 if the request failed without a response
+         */
+        public int getStatusCode() {
+            return response != null ? response.getStatusCode() : -1;
+        }
+
+        /**
+         * Gets the error of the last attempt, e.g. a connection failure.
+         *
+         * @return Error, or null if a response was received
+         */
+        public Exception getError() {
+            return error;
+        }
+
+        /**
+         * Gets the number of attempts made, including retries.
+         *
+         * @return Attempt count
+         */
+        public int getAttempts() {
+            return attempts;
+        }
+
+        @Override
+        public String toString() {
+            return "ItemResult{item=" + item + ", status=" + getStatusCode()
+                + (error != null ? ", error=" + error : "") + ", attempts=" + attempts + "}";
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package api.clients;
+
+import api.models.JsonMappers;
+import io.restassured.mapper.ObjectMapper;
+import io.restassured.mapper.ObjectMapperDeserializationContext;
+import io.restassured.mapper.ObjectMapperSerializationContext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * REST Assured object mapper backed by the shared JsonMappers readers and writers.
+ * Registered as the default mapper of every API client, so request bodies and
+ * response.as(User.class) skip REST Assured's per-call mapper lookup.
+ *
+ * Responses not created by a client (e.g. AsyncUserApiClient results) can use it explicitly:
+ * response.as(User.class, CachedJacksonObjectMapper.INSTANCE)
+ */
+public class CachedJacksonObjectMapper implements ObjectMapper {
+    public static final CachedJacksonObjectMapper INSTANCE = new CachedJacksonObjectMapper();
+
+    @Override
+    public Object deserialize(ObjectMapperDeserializationContext context) {
+        try {
+            String charset = context.getCharset();
+            // Jackson detects UTF encodings itself, so bytes skip the String conversion
+            if (charset == null || StandardCharsets.UTF_8.name().equalsIgnoreCase(charset)) {
+                return JsonMappers.readerFor(context.getType()).readValue(context.getDataToDeserialize().asByteArray());
+            }
+            return JsonMappers.readerFor(context.getType()).readValue(context.getDataToDeserialize().asString());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to deserialize response to " + context.getType(), e);
+        }
+    }
+
+    @Override
+    public Object serialize(ObjectMapperSerializationContext context) {
+        Object body = context.getObjectToSerialize();
+        try {
+            return JsonMappers.writerFor(body.getClass()).writeValueAsString(body);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize request body " + body.getClass().getName(), e);
+        }
+    }
+}
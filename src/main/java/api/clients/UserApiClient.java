@@ -1,7 +1,24 @@
 package api.clients;
 
+import api.models.JsonMappers;
 import api.models.User;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.restassured.response.Response;
+import utils.ConfigProperties;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Client for interacting with the User API endpoints.
@@ -9,9 +26,14 @@ import io.restassured.response.Response;
  */
 public class UserApiClient extends BaseApiClient {
     
-    // API endpoint paths
-    private static final String USERS_ENDPOINT = "/users";
-    private static final String USER_BY_ID_ENDPOINT = "/users/{id}";
+    // API endpoint paths, shared with AsyncUserApiClient
+    static final String USERS_ENDPOINT = "/users";
+    static final String USER_BY_ID_ENDPOINT = "/users/{id}";
+
+    // Reads one user at a time from a streaming parser
+    private static final ObjectReader USER_READER = JsonMappers.readerFor(User.class);
+
+    private final BulkExecutor bulkExecutor = new BulkExecutor();
     
     /**
      * Retrieves all users from the API.
@@ -23,6 +45,73 @@ public class UserApiClient extends BaseApiClient {
         return get(USERS_ENDPOINT);
     }
     
+    /**
+     * Streams all users from the API without holding the response in memory.
+     * Users are parsed one at a time from the response's JSON array as they arrive,
+     * so memory use stays constant whatever the number of users.
+     * Close the stream (try-with-resources) to release the connection.
+     * 
+     * @return Stream of users
+     */
+    public Stream<User> streamAllUsers() {
+        return streamAllUsers(user -> { });
+    }
+    
+    /**
+     * Streams all users from the API, validating each user as it is parsed.
+     * The validator may throw (e.g. a TestNG assertion) to stop at the first invalid user.
+     * Close the stream (try-with-resources) to release the connection.
+     * 
+     * @param validator Called with each user before the stream hands it on
+     * @return Stream of users
+     * @throws RuntimeException if the response status code is not 200
+     */
+    public Stream<User> streamAllUsers(Consumer<User> validator) {
+        logger.info("Streaming all users");
+        Response response = getStreaming(USERS_ENDPOINT);
+        InputStream body = response.asInputStream();
+        if (response.getStatusCode() != 200) {
+            closeQuietly(body);
+            throw new RuntimeException("Unexpected status code streaming users: " + response.getStatusCode());
+        }
+        
+        try {
+            JsonParser parser = USER_READER.getFactory().createParser(body);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.close();
+                throw new RuntimeException("Expected a JSON array of users, got " + parser.currentToken());
+            }
+            Spliterator<User> users = new Spliterators.AbstractSpliterator<User>(Long.MAX_VALUE,
+                    Spliterator.ORDERED | Spliterator.NONNULL) {
+                @Override
+                public boolean tryAdvance(Consumer<? super User> action) {
+                    try {
+                        JsonToken token = parser.nextToken();
+                        if (token == JsonToken.END_ARRAY || token == null) {
+                            return false;
+                        }
+                        User user = USER_READER.readValue(parser);
+                        validator.accept(user);
+                        action.accept(user);
+                        return true;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to parse users", e);
+                    }
+                }
+            };
+            return StreamSupport.stream(users, false).onClose(() -> {
+                try {
+                    parser.close();
+                } catch (IOException e) {
+                    logger.warn("Failed to close user stream: {}", e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            closeQuietly(body);
+            throw new UncheckedIOException("Failed to parse users", e);
+        }
+    }
+    
     /**
      * Retrieves a specific user by their ID.
      * 
@@ -67,4 +156,65 @@ public class UserApiClient extends BaseApiClient {
         logger.info("Deleting user with ID: {}", userId);
         return delete(USER_BY_ID_ENDPOINT.replace("{id}", userId.toString()));
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Creates many users. With api.bulk.users.createEndpoint set, users are posted in batches
+     * as a JSON array and the endpoint is expected to answer with an array of the created
+     * users in the same order. Otherwise, or if the server doesn't support the endpoint,
+     * each user is created with its own request on a bounded number of threads.
+     * 
+     * @param users The users to create
+     * @return Per-user results in input order; each response body holds the created user
+     */
+    public BulkResult<User> createUsers(Collection<User> users) {
+        logger.info("Creating {} users", users.size());
+        String bulkEndpoint = getBulkEndpoint("api.bulk.users.createEndpoint");
+        return bulkExecutor.execute(new ArrayList<>(users), bulkEndpoint != null ? baseUrl + bulkEndpoint : null,
+                batch -> post(bulkEndpoint, batch),
+                BulkExecutor::splitJsonArray,
+                user -> post(USERS_ENDPOINT, user),
+                false);
+    }
+    
+    /**
+     * Deletes many users. With api.bulk.users.deleteEndpoint set, IDs are posted in batches
+     * as a JSON array. Otherwise, or if the server doesn't support the endpoint, each user
+     * is deleted with its own request on a bounded number of threads.
+     * 
+     * @param userIds The IDs of the users to delete
+     * @return Per-ID results in input order
+     */
+    public BulkResult<Long> deleteUsers(Collection<Long> userIds) {
+        logger.info("Deleting {} users", userIds.size());
+        String bulkEndpoint = getBulkEndpoint("api.bulk.users.deleteEndpoint");
+        return bulkExecutor.execute(new ArrayList<>(userIds), bulkEndpoint != null ? baseUrl + bulkEndpoint : null,
+                batch -> post(bulkEndpoint, batch),
+                response -> Collections.emptyList(),
+                userId -> delete(USER_BY_ID_ENDPOINT.replace("{id}", userId.toString())),
+                true);
+    }
+    
+    /**
+     * Closes a response body, ignoring errors.
+     * 
+     * @param body The response body
+     */
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close response body: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Gets a configured bulk endpoint path.
+     * 
+     * @param key Property key
+     * @return Endpoint path, or null if none is configured
+     */
+    private static String getBulkEndpoint(String key) {
+        String endpoint = ConfigProperties.getProperty(key, "").trim();
+        return endpoint.isEmpty() ? null : endpoint;
+    }
+}
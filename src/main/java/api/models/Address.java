@@ -0,0 +1,22 @@
+package api.models;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * Represents a physical address.
+ * Contains all the components of a standard mailing address.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+class Address {
+    private String street;
+    private String suite;
+    private String city;
+    private String zipcode;
+    private Geo geo;
+}
@@ -0,0 +1,20 @@
+package api.models;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * Represents a company entity.
+ * Contains basic company information.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+class Company {
+    private String name;
+    private String catchPhrase;
+    private String bs;
+}
@@ -0,0 +1,19 @@
+package api.models;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * Represents geographical coordinates.
+ * Contains latitude and longitude information.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+class Geo {
+    private String lat;
+    private String lng;
+}
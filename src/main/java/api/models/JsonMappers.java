@@ -0,0 +1,116 @@
+package api.models;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import utils.ConfigProperties;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared Jackson ObjectMapper for the API models, with a cached ObjectReader and
+ * ObjectWriter per type.
+ *
+ * Readers and writers are immutable and thread-safe, and resolve their (de)serializer
+ * once, so reusing them skips Jackson's per-call type lookups. The model types (User and
+ * the Address, Geo and Company types it contains) are prepared when the class loads.
+ *
+ * A bytecode module speeds up property access: api.json.module selects blackbird (the
+ * default), afterburner or none. The module is loaded reflectively and skipped with a
+ * warning when it is not on the classpath.
+ *
+ * Configuration (config.properties or system properties):
+ * api.json.module=blackbird
+ *
+ * Usage example:
+ * User user = JsonMappers.readerFor(User.class).readValue(json);
+ *
+ * Don't reconfigure the shared mapper; every client uses it.
+ */
+public final class JsonMappers {
+    private static final Logger logger = LogManager.getLogger(JsonMappers.class);
+
+    // Optional modules by api.json.module value
+    private static final Map<String, String> MODULES = Map.of(
+        "blackbird", "com.fasterxml.jackson.module.blackbird.BlackbirdModule",
+        "afterburner", "com.fasterxml.jackson.module.afterburner.AfterburnerModule");
+
+    private static final ObjectMapper OBJECT_MAPPER = createObjectMapper();
+
+    // Type -> reader / writer
+    private static final Map<Type, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<Type, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+    static {
+        for (Class<?> type : List.of(User.class, Address.class, Geo.class, Company.class)) {
+            readerFor(type);
+            writerFor(type);
+        }
+    }
+
+    private JsonMappers() {
+    }
+
+    /**
+     * Gets the shared ObjectMapper.
+     *
+     * @return ObjectMapper
+     */
+    public static ObjectMapper getObjectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Gets the cached reader for a type.
+     *
+     * @param type Type to read, e.g. User.class
+     * @return ObjectReader
+     */
+    public static ObjectReader readerFor(Type type) {
+        return READERS.computeIfAbsent(type,
+            key -> OBJECT_MAPPER.readerFor(OBJECT_MAPPER.getTypeFactory().constructType(key)));
+    }
+
+    /**
+     * Gets the cached writer for a type.
+     *
+     * @param type Type to write, e.g. User.class
+     * @return ObjectWriter
+     */
+    public static ObjectWriter writerFor(Type type) {
+        return WRITERS.computeIfAbsent(type,
+            key -> OBJECT_MAPPER.writerFor(OBJECT_MAPPER.getTypeFactory().constructType(key)));
+    }
+
+    /**
+     * Creates the shared mapper and registers the configured module.
+     *
+     * @return ObjectMapper
+     */
+    private static ObjectMapper createObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        String module = ConfigProperties.getProperty("api.json.module", "blackbird").trim().toLowerCase();
+        if (module.isEmpty() || module.equals("none")) {
+            return mapper;
+        }
+
+        String className = MODULES.get(module);
+        if (className == null) {
+            logger.warn("Unknown api.json.module '{}' (expected none, blackbird or afterburner)", module);
+            return mapper;
+        }
+        try {
+            mapper.registerModule((Module) Class.forName(className).getDeclaredConstructor().newInstance());
+            logger.info("Registered Jackson module: {}", module);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.warn("Jackson module {} is not available, using plain reflection: {}", module, e.toString());
+        }
+        return mapper;
+    }
+}
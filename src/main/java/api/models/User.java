@@ -127,46 +127,3 @@ public class User {
      */
     public void setWebsite(String website) { this.website = website; }
 }
-
-/**
- * Represents a physical address.
- * Contains all the components of a standard mailing address.
- */
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-class Address {
-    private String street;
-    private String suite;
-    private String city;
-    private String zipcode;
-    private Geo geo;
-}
-
-/**
- * Represents geographical coordinates.
- * Contains latitude and longitude information.
- */
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-class Geo {
-    private String lat;
-    private String lng;
-}
-
-/**
- * Represents a company entity.
- * Contains basic company information.
- */
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-class Company {
-    private String name;
-    private String catchPhrase;
-    private String bs;
-} 
\ No newline at end of file
@@ -1,14 +1,25 @@
 package pages;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
 import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.LatencyRecorder;
+import utils.LocatorScripts;
+import utils.WaitEngine;
 import utils.WebDriverUtils;
 
+import java.lang.reflect.Field;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 /**
@@ -18,19 +29,64 @@ import java.util.logging.Logger;
  */
 public abstract class BasePage {
     protected WebDriver driver;
-    protected WebDriverWait wait;
+    protected WaitEngine wait;
     protected final Logger logger = Logger.getLogger(getClass().getName());
     protected static final int DEFAULT_TIMEOUT = 10;
     
+    // Whether a page class has fields that PageFactory would initialize, computed once per class
+    private static final ClassValue<Boolean> USES_PAGE_FACTORY = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> current = type; current != BasePage.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (WebElement.class.isAssignableFrom(field.getType())
+                            || (List.class.isAssignableFrom(field.getType())
+                                && (field.isAnnotationPresent(FindBy.class)
+                                    || field.isAnnotationPresent(FindBys.class)
+                                    || field.isAnnotationPresent(FindAll.class)))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    };
+    
+    // Returns [present, displayed, text] for each [using, value] pair in arguments[0]
+    private static final String QUERY_ELEMENTS_SCRIPT = LocatorScripts.FUNCTIONS
+        + "var queries = arguments[0], results = [];"
+        + "for (var i = 0; i < queries.length; i++) {"
+        + "  var element = null;"
+        + "  try { element = findElement(queries[i][0], queries[i][1]); } catch (e) {}"
+        + "  if (!element) { results.push([false, false, null]); continue; }"
+        + "  var visible = isVisible(element);"
+        + "  results.push([true, visible, visible ? (element.innerText || element.textContent || '').trim() : '']);"
+        + "}"
+        + "return results;";
+    
     /**
      * Constructor for the BasePage.
+     * PageFactory only runs for page classes that declare WebElement fields;
+     * pages built on By locators and PageElement skip the reflective scan.
      * 
      * @param driver WebDriver instance
      */
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
-        PageFactory.initElements(driver, this);
+        this.wait = WaitEngine.forDriver(driver);
+        if (USES_PAGE_FACTORY.get(getClass())) {
+            PageFactory.initElements(driver, this);
+        }
+    }
+    
+    /**
+     * Create a lazily resolved, cached element for this page.
+     * 
+     * @param locator Element locator
+     * @return PageElement bound to this page's driver
+     */
+    protected PageElement element(By locator) {
+        return new PageElement(driver, locator, Duration.ofSeconds(DEFAULT_TIMEOUT));
     }
     
     /**
@@ -62,20 +118,23 @@ public abstract class BasePage {
     }
     
     /**
-     * Navigate to a URL.
+     * Navigate to a URL and wait until the page is loaded as far as the
+     * configured page load strategy requires.
      * 
      * @param url The URL to navigate to
      */
     public void navigateTo(String url) {
-        driver.get(url);
-        waitForPageToLoad();
+        timed("navigateTo", () -> {
+            driver.get(url);
+            waitForPageToLoad();
+        });
     }
     
     /**
-     * Wait for page to load completely.
+     * Wait for page to load (DOM ready with the eager/none page load strategies).
      */
     public void waitForPageToLoad() {
-        WebDriverUtils.waitForPageToLoad(driver);
+        timed("waitForPageToLoad", () -> WebDriverUtils.waitForPageToLoad(driver));
     }
     
     /**
@@ -85,7 +144,7 @@ public abstract class BasePage {
      * @return WebElement that is now visible
      */
     protected WebElement waitForElementVisible(By locator) {
-        return WebDriverUtils.waitForElementToBeVisible(driver, locator);
+        return timed("waitForElementVisible", () -> WebDriverUtils.waitForElementToBeVisible(driver, locator));
     }
     
     /**
@@ -95,7 +154,7 @@ public abstract class BasePage {
      * @return WebElement that is now clickable
      */
     protected WebElement waitForElementClickable(By locator) {
-        return WebDriverUtils.waitForElementToBeClickable(driver, locator);
+        return timed("waitForElementClickable", () -> WebDriverUtils.waitForElementToBeClickable(driver, locator));
     }
     
     /**
@@ -104,7 +163,7 @@ public abstract class BasePage {
      * @param locator Element locator
      */
     protected void click(By locator) {
-        WebDriverUtils.safeClick(driver, locator);
+        timed("click", () -> WebDriverUtils.safeClick(driver, locator));
     }
     
     /**
@@ -114,7 +173,7 @@ public abstract class BasePage {
      * @param text Text to enter
      */
     protected void type(By locator, String text) {
-        WebDriverUtils.safeType(driver, locator, text);
+        timed("type", () -> WebDriverUtils.safeType(driver, locator, text));
     }
     
     /**
@@ -124,11 +183,110 @@ public abstract class BasePage {
      * @return true if the element is displayed, false otherwise
      */
     protected boolean isElementDisplayed(By locator) {
-        try {
-            return driver.findElement(locator).isDisplayed();
-        } catch (Exception e) {
-            return false;
+        return timed("isElementDisplayed", () -> {
+            try {
+                return driver.findElement(locator).isDisplayed();
+            } catch (Exception e) {
+                return false;
+            }
+        });
+    }
+    
+    /**
+     * Check if all elements are displayed, using a single browser round trip.
+     * 
+     * @param locators Element locators
+     * @return true if every element is displayed, false otherwise
+     */
+    protected boolean areElementsDisplayed(By... locators) {
+        for (ElementState state : queryElements(locators).values()) {
+            if (!state.isDisplayed()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Check if all page elements are displayed, using a single browser round trip.
+     * 
+     * @param elements Page elements
+     * @return true if every element is displayed, false otherwise
+     */
+    protected boolean areElementsDisplayed(PageElement... elements) {
+        By[] locators = new By[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            locators[i] = elements[i].getLocator();
+        }
+        return areElementsDisplayed(locators);
+    }
+    
+    /**
+     * Read presence, visibility and text of several elements in one executeScript call
+     * instead of a findElement plus isDisplayed/getText per element.
+     * Locators that cannot be evaluated in the browser are queried individually.
+     * 
+     * @param locators Element locators
+     * @return State of each element, in the order of the locators
+     */
+    protected Map<By, ElementState> queryElements(By... locators) {
+        return timed("queryElements", () -> queryAllElements(locators));
+    }
+    
+    /**
+     * Read the state of several elements, batching the locators the browser can evaluate.
+     * 
+     * @param locators Element locators
+     * @return State of each element, in the order of the locators
+     */
+    private Map<By, ElementState> queryAllElements(By... locators) {
+        Map<By, ElementState> states = new LinkedHashMap<>();
+        List<By> batched = new ArrayList<>();
+        List<List<String>> queries = new ArrayList<>();
+        
+        for (By locator : locators) {
+            String[] arguments = LocatorScripts.toScriptArguments(locator);
+            if (arguments != null && driver instanceof JavascriptExecutor) {
+                batched.add(locator);
+                queries.add(List.of(arguments));
+            }
+            states.put(locator, null);
         }
+        
+        if (!queries.isEmpty()) {
+            List<?> results = (List<?>) ((JavascriptExecutor) driver).executeScript(QUERY_ELEMENTS_SCRIPT, queries);
+            for (int i = 0; i < batched.size(); i++) {
+                List<?> result = (List<?>) results.get(i);
+                states.put(batched.get(i), new ElementState(
+                    Boolean.TRUE.equals(result.get(0)),
+                    Boolean.TRUE.equals(result.get(1)),
+                    (String) result.get(2)));
+            }
+        }
+        
+        // Fall back to WebDriver calls for locators the browser cannot evaluate
+        for (Map.Entry<By, ElementState> entry : states.entrySet()) {
+            if (entry.getValue() == null) {
+                entry.setValue(queryElement(entry.getKey()));
+            }
+        }
+        return states;
+    }
+    
+    /**
+     * Read presence, visibility and text of one element through WebDriver calls.
+     * 
+     * @param locator Element locator
+     * @return State of the element
+     */
+    private ElementState queryElement(By locator) {
+        List<WebElement> elements = driver.findElements(locator);
+        if (elements.isEmpty()) {
+            return ElementState.absent();
+        }
+        WebElement element = elements.get(0);
+        boolean displayed = element.isDisplayed();
+        return new ElementState(true, displayed, displayed ? element.getText() : "");
     }
     
     /**
@@ -138,7 +296,7 @@ public abstract class BasePage {
      * @return Text content of the element
      */
     protected String getText(By locator) {
-        return waitForElementVisible(locator).getText();
+        return timed("getText", () -> waitForElementVisible(locator).getText());
     }
     
     /**
@@ -160,4 +318,32 @@ public abstract class BasePage {
     protected List<WebElement> findElements(By locator) {
         return driver.findElements(locator);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Run a page helper and record its latency as PageClass.method when metrics are enabled.
+     * 
+     * @param method Helper method name
+     * @param action Helper body
+     * @param <T> The helper's result type
+     * @return The helper's result
+     */
+    protected <T> T timed(String method, Supplier<T> action) {
+        if (!LatencyRecorder.isEnabled()) {
+            return action.get();
+        }
+        return LatencyRecorder.time(LatencyRecorder.PAGE, getClass().getSimpleName() + "." + method, action);
+    }
+    
+    /**
+     * Run a page helper without a result and record its latency when metrics are enabled.
+     * 
+     * @param method Helper method name
+     * @param action Helper body
+     */
+    protected void timed(String method, Runnable action) {
+        timed(method, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package pages;
+
+/**
+ * Snapshot of an element's state as returned by BasePage.queryElements().
+ * All values are read in a single round trip, so they describe the page at one moment.
+ */
+public class ElementState {
+    private static final ElementState ABSENT = new ElementState(false, false, null);
+
+    private final boolean present;
+    private final boolean displayed;
+    private final String text;
+
+    /**
+     * Constructor for ElementState.
+     * 
+     * @param present Whether an element matched the locator
+     * @param displayed Whether the element is visible
+     * @param text Visible text of the element, or null if it is not present
+     */
+    public ElementState(boolean present, boolean displayed, String text) {
+        this.present = present;
+        this.displayed = displayed;
+        this.text = text;
+    }
+
+    /**
+     * Get the state of an element that is not on the page.
+     * 
+     * @return ElementState for a missing element
+     */
+    public static ElementState absent() {
+        return ABSENT;
+    }
+
+    /**
+     * Check if an element matched the locator.
+     * 
+     * @return true if the element is present in the DOM
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * Check if the element is visible.
+     * 
+     * @return true if the element is displayed
+     */
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    /**
+     * Get the visible text of the element.
+     * 
+     * @return Visible text, empty if the element is hidden, null if it is not present
+     */
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementState{present=" + present + ", displayed=" + displayed + ", text='" + text + "'}";
+    }
+}
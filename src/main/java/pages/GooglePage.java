@@ -3,12 +3,10 @@ package pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 
 public class GooglePage extends BasePage {
     
-    private By searchBox = By.name("q");
+    private final PageElement searchBox = element(By.name("q"));
     
     public GooglePage(WebDriver driver) {
         super(driver);
@@ -21,13 +19,11 @@ public class GooglePage extends BasePage {
     
     public void search(String searchTerm) {
         // Wait for the search box to be visible and interactable
-        wait.until(ExpectedConditions.elementToBeClickable(searchBox));
+        searchBox.waitUntilClickable();
         
         // Clear any existing text and enter the search term
-        WebElement element = driver.findElement(searchBox);
-        element.clear();
-        element.sendKeys(searchTerm);
-        element.sendKeys(Keys.RETURN);
+        searchBox.type(searchTerm);
+        searchBox.sendKeys(Keys.RETURN);
         
         // Wait for the page to load after search
         waitForPageToLoad();
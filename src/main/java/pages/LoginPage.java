@@ -9,10 +9,10 @@ import org.openqa.selenium.WebDriver;
  * It follows the Page Object Model pattern to separate page interactions from test logic.
  */
 public class LoginPage extends BasePage {
-    // Page element locators using By class
-    private final By username = By.id("username");
-    private final By password = By.id("password");
-    private final By loginBtn = By.id("login");
+    // Page elements, resolved on first use and cached afterwards
+    private final PageElement username = element(By.id("username"));
+    private final PageElement password = element(By.id("password"));
+    private final PageElement loginBtn = element(By.id("login"));
 
     /**
      * Constructor for LoginPage.
@@ -30,7 +30,7 @@ public class LoginPage extends BasePage {
      * @return LoginPage for method chaining
      */
     public LoginPage enterUsername(String user) {
-        type(username, user);
+        username.type(user);
         return this;
     }
 
@@ -41,7 +41,7 @@ public class LoginPage extends BasePage {
      * @return LoginPage for method chaining
      */
     public LoginPage enterPassword(String pass) {
-        type(password, pass);
+        password.type(pass);
         return this;
     }
 
@@ -51,7 +51,7 @@ public class LoginPage extends BasePage {
      * @return The next page after login (could be customized to return appropriate page)
      */
     public void clickLogin() {
-        click(loginBtn);
+        loginBtn.click();
         waitForPageToLoad();
     }
     
@@ -70,12 +70,11 @@ public class LoginPage extends BasePage {
     
     /**
      * Checks if the login page is displayed.
+     * All three form elements are checked in a single browser round trip.
      * 
      * @return true if login page is displayed, false otherwise
      */
     public boolean isLoginPageDisplayed() {
-        return isElementDisplayed(username) && 
-               isElementDisplayed(password) && 
-               isElementDisplayed(loginBtn);
+        return areElementsDisplayed(username, password, loginBtn);
     }
 }
\ No newline at end of file
@@ -0,0 +1,203 @@
+package pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import utils.WaitEngine;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Lazily resolved, cached reference to an element on a page.
+ *
+ * A PageElement:
+ * - Does not touch the browser until it is first used
+ * - Keeps the resolved WebElement, so repeated actions skip the findElement round trip
+ * - Re-resolves transparently when the cached element has gone stale
+ *
+ * Page objects create them through BasePage.element(By):
+ * private final PageElement username = element(By.id("username"));
+ */
+public class PageElement {
+    private final WebDriver driver;
+    private final By locator;
+    private final Duration timeout;
+    private WebElement element;
+
+    /**
+     * Constructor for PageElement.
+     *
+     * @param driver WebDriver instance used to resolve the element
+     * @param locator Locator of the element
+     * @param timeout Maximum time to wait for the element to become usable
+     */
+    public PageElement(WebDriver driver, By locator, Duration timeout) {
+        this.driver = driver;
+        this.locator = locator;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Get the locator of this element.
+     *
+     * @return The By locator
+     */
+    public By getLocator() {
+        return locator;
+    }
+
+    /**
+     * Get the WebElement, resolving it if it is not cached yet.
+     *
+     * @return The resolved WebElement
+     */
+    public WebElement get() {
+        if (element == null) {
+            element = driver.findElement(locator);
+        }
+        return element;
+    }
+
+    /**
+     * Wait until the element is visible and cache it.
+     *
+     * @return The visible WebElement
+     */
+    public WebElement waitUntilVisible() {
+        element = WaitEngine.forDriver(driver).untilVisible(locator, timeout);
+        return element;
+    }
+
+    /**
+     * Wait until the element is clickable and cache it.
+     *
+     * @return The clickable WebElement
+     */
+    public WebElement waitUntilClickable() {
+        element = WaitEngine.forDriver(driver).untilClickable(locator, timeout);
+        return element;
+    }
+
+    /**
+     * Click the element, waiting for it to be clickable if it has not been resolved yet.
+     */
+    public void click() {
+        interact(webElement -> {
+            webElement.click();
+            return null;
+        }, true);
+    }
+
+    /**
+     * Clear the element and type text into it.
+     *
+     * @param text Text to enter
+     */
+    public void type(String text) {
+        interact(webElement -> {
+            webElement.clear();
+            webElement.sendKeys(text);
+            return null;
+        }, false);
+    }
+
+    /**
+     * Send keys to the element without clearing it.
+     *
+     * @param keys Keys to send
+     */
+    public void sendKeys(CharSequence... keys) {
+        interact(webElement -> {
+            webElement.sendKeys(keys);
+            return null;
+        }, false);
+    }
+
+    /**
+     * Get the visible text of the element.
+     *
+     * @return Text content of the element
+     */
+    public String getText() {
+        return interact(WebElement::getText, false);
+    }
+
+    /**
+     * Check if the element is displayed.
+     *
+     * @return true if the element is displayed, false if it is hidden or not on the page
+     */
+    public boolean isDisplayed() {
+        try {
+            return withElement(WebElement::isDisplayed);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Drop the cached WebElement so the next use resolves it again.
+     * Call this after an action that is known to re-render the element.
+     */
+    public void invalidate() {
+        element = null;
+    }
+
+    /**
+     * Run an interaction, waiting for the element first if it is not cached yet, and
+     * once more if the cached element turns out to be stale or not yet interactable.
+     *
+     * @param action Interaction to run
+     * @param clickable true to wait for clickability, false to wait for visibility
+     * @param <T> The action's result type
+     * @return The action's result
+     */
+    private <T> T interact(Function<WebElement, T> action, boolean clickable) {
+        if (element == null) {
+            resolve(clickable);
+        }
+        try {
+            return action.apply(element);
+        } catch (StaleElementReferenceException | ElementNotInteractableException e) {
+            resolve(clickable);
+            return action.apply(element);
+        }
+    }
+
+    /**
+     * Run an action on the element, re-resolving it once if the cached reference is stale.
+     *
+     * @param action Action to run
+     * @param <T> The action's result type
+     * @return The action's result
+     */
+    private <T> T withElement(Function<WebElement, T> action) {
+        try {
+            return action.apply(get());
+        } catch (StaleElementReferenceException e) {
+            element = null;
+            return action.apply(get());
+        }
+    }
+
+    /**
+     * Wait for the element and cache it.
+     *
+     * @param clickable true to wait for clickability, false to wait for visibility
+     */
+    private void resolve(boolean clickable) {
+        if (clickable) {
+            waitUntilClickable();
+        } else {
+            waitUntilVisible();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PageElement{" + locator + "}";
+    }
+}
@@ -0,0 +1,141 @@
+package pages;
+
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Constructor;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of page objects for one WebDriver.
+ *
+ * The registry:
+ * - Creates a page object only when it is first requested, then reuses it
+ * - Maps URL patterns to page types, so steps don't need an if/else chain per site
+ * - Uses registered factories, falling back to a cached (WebDriver) constructor lookup
+ *
+ * Page types and URL patterns are registered once for all registries:
+ * PageRegistry.register(GooglePage.class, GooglePage::new, "google\\.com");
+ *
+ * Usage example:
+ * PageRegistry pages = new PageRegistry(driver);
+ * BasePage page = pages.forUrl("https://www.google.com").orElse(...);
+ */
+public class PageRegistry {
+
+    // Factories for known page types
+    private static final Map<Class<? extends BasePage>, Function<WebDriver, ? extends BasePage>> FACTORIES =
+        new ConcurrentHashMap<>();
+
+    // URL patterns in registration order; the first match wins
+    private static final List<Route> ROUTES = new CopyOnWriteArrayList<>();
+
+    // (WebDriver) constructors of page types without a registered factory
+    private static final ClassValue<Constructor<?>> CONSTRUCTORS = new ClassValue<Constructor<?>>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+            try {
+                return type.getConstructor(WebDriver.class);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException(type.getName() + " has no public (WebDriver) constructor", e);
+            }
+        }
+    };
+
+    static {
+        register(GooglePage.class, GooglePage::new, "google\\.com");
+        register(WikipediaPage.class, WikipediaPage::new, "wikipedia\\.org");
+        register(LoginPage.class, LoginPage::new);
+    }
+
+    private final WebDriver driver;
+    private final Map<Class<? extends BasePage>, BasePage> pages = new HashMap<>();
+
+    /**
+     * Constructor for PageRegistry.
+     *
+     * @param driver WebDriver the page objects are created for
+     */
+    public PageRegistry(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Register a page type with its factory and the URL patterns it handles.
+     *
+     * @param type Page class
+     * @param factory Creates the page for a driver
+     * @param urlPatterns Regular expressions matched against URLs (find, not full match)
+     * @param <P> Page type
+     */
+    public static <P extends BasePage> void register(Class<P> type, Function<WebDriver, P> factory,
+                                                     String... urlPatterns) {
+        FACTORIES.put(type, factory);
+        for (String urlPattern : urlPatterns) {
+            ROUTES.add(new Route(Pattern.compile(urlPattern), type));
+        }
+    }
+
+    /**
+     * Get the page object of a type, creating it on first request.
+     *
+     * @param type Page class
+     * @param <P> Page type
+     * @return The page object for this registry's driver
+     */
+    public <P extends BasePage> P get(Class<P> type) {
+        return type.cast(pages.computeIfAbsent(type, this::create));
+    }
+
+    /**
+     * Get the page object registered for a URL.
+     *
+     * @param url URL to match
+     * @return The page object, or empty if no pattern matches the URL
+     */
+    public Optional<BasePage> forUrl(String url) {
+        for (Route route : ROUTES) {
+            if (route.pattern.matcher(url).find()) {
+                return Optional.of(get(route.type));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Create a page object through its factory or (WebDriver) constructor.
+     *
+     * @param type Page class
+     * @return New page object
+     */
+    private BasePage create(Class<? extends BasePage> type) {
+        Function<WebDriver, ? extends BasePage> factory = FACTORIES.get(type);
+        if (factory != null) {
+            return factory.apply(driver);
+        }
+        try {
+            return (BasePage) CONSTRUCTORS.get(type).newInstance(driver);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to create page " + type.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * URL pattern mapped to a page type.
+     */
+    private static class Route {
+        private final Pattern pattern;
+        private final Class<? extends BasePage> type;
+
+        Route(Pattern pattern, Class<? extends BasePage> type) {
+            this.pattern = pattern;
+            this.type = type;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package pages;
 
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
+import utils.WebDriverFactory;
 
 public class WikipediaPage extends BasePage {
     
@@ -10,5 +12,9 @@ public class WikipediaPage extends BasePage {
     
     public void navigateTo(String url) {
         driver.get(url);
+        // driver.get only returns before the DOM is ready with the eager/none strategies
+        if (WebDriverFactory.getPageLoadStrategy() != PageLoadStrategy.NORMAL) {
+            waitForPageToLoad();
+        }
     }
 } 
\ No newline at end of file
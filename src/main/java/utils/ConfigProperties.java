@@ -1,89 +1,387 @@
 package utils;
 
+import io.github.cdimascio.dotenv.Dotenv;
+import io.github.cdimascio.dotenv.DotenvEntry;
+
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 /**
  * Utility class for loading and accessing properties from config files.
+ *
+ * Configuration is loaded into an immutable snapshot, so reads need no locking and
+ * integer and boolean values are parsed only once. Layers, lowest precedence first:
+ * 1. config.properties on the classpath
+ * 2. External file named by config.file (-Dconfig.file or AF_CONFIG_FILE), if any
+ * 3. Environment-specific keys: with env=qa, baseUrl.qa is also available as baseUrl
+ * 4. .env file and environment variables, named after the key with an AF_ prefix:
+ *    driver.pool.maxSize -> AF_DRIVER_POOL_MAX_SIZE
+ * 5. System properties (-Dkey=value)
+ *
+ * The environment is selected with -Denv, the AF_ENV variable or env in config.properties.
+ * The prefix keeps generic variables such as BROWSER or ENV, which shells and IDEs set for
+ * their own purposes, from overriding the configuration.
+ *
+ * With config.watch=true the external file is watched: when it changes, a new snapshot
+ * is built and swapped in atomically, and change listeners are told which keys changed.
+ *
+ * Usage example:
+ * ConfigProperties.addChangeListener(keys -> {
+ *     if (keys.contains("driver.pool.maxSize")) { ... }
+ * });
  */
 public class ConfigProperties {
     private static final Logger LOGGER = Logger.getLogger(ConfigProperties.class.getName());
-    private static final Properties properties = new Properties();
     private static final String CONFIG_FILE = "config.properties";
-    private static boolean isLoaded = false;
-    
+    private static final String ENV_KEY = "env";
+    private static final String CONFIG_FILE_KEY = "config.file";
+    private static final String WATCH_KEY = "config.watch";
+    private static final String ENVIRONMENT_VARIABLE_PREFIX = "AF_";
+
+    // Wait for further events after a change, so an editor's save is picked up as one reload
+    private static final long WATCH_SETTLE_MILLIS = 200;
+
+    // Replaced as a whole on reload; readers always see one complete snapshot
+    private static volatile Snapshot snapshot = Snapshot.load(false);
+
+    private static final List<ChangeListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    static {
+        if (getBooleanProperty(WATCH_KEY, false)) {
+            startWatching();
+        }
+    }
+
     /**
-     * Load properties from the config file.
+     * Listener notified after a reload changed the configuration.
      */
-    private static void loadProperties() {
-        if (isLoaded) {
-            return;
+    public interface ChangeListener {
+        /**
+         * Called after the new snapshot is in place.
+         *
+         * @param changedKeys Keys that were added, removed or changed
+         */
+        void onChange(Set<String> changedKeys);
+    }
+
+    /**
+     * Register a listener for configuration changes.
+     *
+     * @param listener Listener to add
+     */
+    public static void addChangeListener(ChangeListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Remove a previously registered listener.
+     *
+     * @param listener Listener to remove
+     */
+    public static void removeChangeListener(ChangeListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Rebuild the configuration from all layers, swap it in and notify listeners of changed keys.
+     *
+     * @return Keys that changed, empty if nothing changed
+     */
+    public static synchronized Set<String> reload() {
+        Snapshot previous = snapshot;
+        Snapshot next;
+        try {
+            next = Snapshot.load(true);
+        } catch (UncheckedIOException e) {
+            // Half-written or unreadable file: keep running on the current configuration
+            LOGGER.warning("Configuration not reloaded: " + e.getMessage());
+            return Set.of();
+        }
+
+        Set<String> changedKeys = new HashSet<>(previous.values.keySet());
+        changedKeys.addAll(next.values.keySet());
+        changedKeys.removeIf(key -> Objects.equals(previous.values.get(key), next.values.get(key)));
+        if (changedKeys.isEmpty()) {
+            return changedKeys;
         }
-        
-        try (InputStream input = ConfigProperties.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
-            if (input == null) {
-                LOGGER.warning("Unable to find " + CONFIG_FILE);
-                return;
+
+        snapshot = next;
+        LOGGER.info("Configuration reloaded, changed keys: " + changedKeys);
+        Set<String> keys = Set.copyOf(changedKeys);
+        for (ChangeListener listener : LISTENERS) {
+            try {
+                listener.onChange(keys);
+            } catch (RuntimeException e) {
+                LOGGER.warning("Configuration change listener failed: " + e.getMessage());
             }
-            
-            properties.load(input);
-            isLoaded = true;
-            LOGGER.info("Loaded configuration from " + CONFIG_FILE);
-        } catch (IOException ex) {
-            LOGGER.severe("Error loading properties file: " + ex.getMessage());
         }
+        return keys;
     }
-    
+
     /**
      * Get property value with a default value if not found.
-     * 
+     *
      * @param key Property key
      * @param defaultValue Default value if property not found
      * @return Property value or default value
      */
     public static String getProperty(String key, String defaultValue) {
-        loadProperties();
-        return properties.getProperty(key, defaultValue);
+        String value = snapshot.values.get(key);
+        return value != null ? value : defaultValue;
     }
-    
+
     /**
      * Get property value.
-     * 
+     *
      * @param key Property key
      * @return Property value or null if not found
      */
     public static String getProperty(String key) {
         return getProperty(key, null);
     }
-    
+
     /**
      * Get boolean property value.
-     * 
+     *
      * @param key Property key
      * @param defaultValue Default value if property not found
      * @return Boolean property value
      */
     public static boolean getBooleanProperty(String key, boolean defaultValue) {
-        String value = getProperty(key);
-        return (value != null) ? Boolean.parseBoolean(value) : defaultValue;
+        Boolean value = snapshot.booleans.get(key);
+        return value != null ? value : defaultValue;
     }
-    
+
     /**
      * Get integer property value.
-     * 
+     *
      * @param key Property key
      * @param defaultValue Default value if property not found
      * @return Integer property value
      */
     public static int getIntProperty(String key, int defaultValue) {
-        String value = getProperty(key);
+        Integer value = snapshot.integers.get(key);
+        if (value != null) {
+            return value;
+        }
+        if (snapshot.values.containsKey(key)) {
+            LOGGER.warning("Invalid integer property value for " + key + ": " + snapshot.values.get(key));
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Get the selected environment (dev, qa, staging, prod, ...).
+     *
+     * @return Environment name, or null if none is selected
+     */
+    public static String getEnvironment() {
+        return snapshot.environment;
+    }
+
+    /**
+     * Watch the external config file on a daemon thread and reload when it changes.
+     * Watches the parent directory, since editors often replace the file instead of writing to it.
+     */
+    private static void startWatching() {
+        String configFile = getProperty(CONFIG_FILE_KEY);
+        if (configFile == null || configFile.isBlank()) {
+            LOGGER.warning(WATCH_KEY + " is set but " + CONFIG_FILE_KEY + " is not, nothing to watch");
+            return;
+        }
+        Path file = Paths.get(configFile.trim()).toAbsolutePath();
+        Path directory = file.getParent();
+        WatchService watchService;
         try {
-            return (value != null) ? Integer.parseInt(value) : defaultValue;
-        } catch (NumberFormatException e) {
-            LOGGER.warning("Invalid integer property value for " + key + ": " + value);
-            return defaultValue;
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            LOGGER.warning("Cannot watch " + file + ": " + e.getMessage());
+            return;
+        }
+
+        Thread watcher = new Thread(() -> {
+            try {
+                while (true) {
+                    WatchKey key = watchService.take();
+                    boolean changed = false;
+                    do {
+                        for (WatchEvent<?> event : key.pollEvents()) {
+                            if (file.getFileName().equals(event.context())) {
+                                changed = true;
+                            }
+                        }
+                        key.reset();
+                        key = watchService.poll(WATCH_SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                    } while (key != null);
+                    if (changed) {
+                        reload();
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                // Watcher stopped
+            }
+        }, "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        LOGGER.info("Watching " + file + " for configuration changes");
+    }
+
+    /**
+     * Convert a property key to the name of the environment variable that overrides it.
+     *
+     * @param key Property key, e.g. driver.pool.maxSize
+     * @return Variable name, e.g. AF_DRIVER_POOL_MAX_SIZE
+     */
+    static String toEnvironmentVariable(String key) {
+        StringBuilder name = new StringBuilder(key.length() + 12).append(ENVIRONMENT_VARIABLE_PREFIX);
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (Character.isUpperCase(c) && i > 0 && Character.isLowerCase(key.charAt(i - 1))) {
+                name.append('_');
+            }
+            name.append(c == '.' || c == '-' ? '_' : Character.toUpperCase(c));
+        }
+        return name.toString();
+    }
+
+    /**
+     * Immutable view of the configuration with pre-parsed typed values.
+     */
+    private static final class Snapshot {
+        private final Map<String, String> values;
+        private final Map<String, Integer> integers;
+        private final Map<String, Boolean> booleans;
+        private final String environment;
+
+        private Snapshot(Map<String, String> values, String environment) {
+            Map<String, Integer> parsedIntegers = new HashMap<>();
+            Map<String, Boolean> parsedBooleans = new HashMap<>();
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                String value = entry.getValue().trim();
+                parsedBooleans.put(entry.getKey(), Boolean.parseBoolean(value));
+                try {
+                    parsedIntegers.put(entry.getKey(), Integer.parseInt(value));
+                } catch (NumberFormatException e) {
+                    // Not an integer; getIntProperty falls back to its default
+                }
+            }
+            this.values = Map.copyOf(values);
+            this.integers = Map.copyOf(parsedIntegers);
+            this.booleans = Map.copyOf(parsedBooleans);
+            this.environment = environment;
+        }
+
+        /**
+         * Build a snapshot from all configuration layers.
+         *
+         * @param failOnExternalFileError true to throw if the external file cannot be read, false to skip it
+         * @return The loaded snapshot
+         * @throws UncheckedIOException if failOnExternalFileError is set and the external file cannot be read
+         */
+        private static Snapshot load(boolean failOnExternalFileError) {
+            Map<String, String> values = new HashMap<>();
+
+            // 1. Classpath config file
+            Properties fileProperties = new Properties();
+            try (InputStream input = ConfigProperties.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
+                if (input == null) {
+                    LOGGER.warning("Unable to find " + CONFIG_FILE);
+                } else {
+                    fileProperties.load(input);
+                    LOGGER.info("Loaded configuration from " + CONFIG_FILE);
+                }
+            } catch (IOException ex) {
+                LOGGER.severe("Error loading properties file: " + ex.getMessage());
+            }
+            for (String key : fileProperties.stringPropertyNames()) {
+                values.put(key, fileProperties.getProperty(key));
+            }
+
+            Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+            Properties systemProperties = System.getProperties();
+
+            // 2. External config file
+            String configFile = systemProperties.getProperty(CONFIG_FILE_KEY,
+                dotenv.get(toEnvironmentVariable(CONFIG_FILE_KEY), values.get(CONFIG_FILE_KEY)));
+            if (configFile != null && !configFile.isBlank()) {
+                Path path = Paths.get(configFile.trim());
+                Properties externalProperties = new Properties();
+                try (InputStream input = Files.newInputStream(path)) {
+                    externalProperties.load(input);
+                    LOGGER.info("Loaded configuration from " + path);
+                } catch (IOException ex) {
+                    if (failOnExternalFileError) {
+                        throw new UncheckedIOException("Error loading properties file " + path, ex);
+                    }
+                    LOGGER.severe("Error loading properties file " + path + ": " + ex.getMessage());
+                }
+                for (String key : externalProperties.stringPropertyNames()) {
+                    values.put(key, externalProperties.getProperty(key));
+                }
+            }
+
+            // 3. Environment-specific keys, with the environment itself taken from the highest layer that sets it
+            String environment = systemProperties.getProperty(ENV_KEY,
+                dotenv.get(toEnvironmentVariable(ENV_KEY), values.get(ENV_KEY)));
+            if (environment != null && !environment.isBlank()) {
+                environment = environment.trim();
+                String suffix = "." + environment;
+                Map<String, String> environmentValues = new HashMap<>();
+                for (Map.Entry<String, String> entry : values.entrySet()) {
+                    if (entry.getKey().endsWith(suffix)) {
+                        environmentValues.put(entry.getKey().substring(0, entry.getKey().length() - suffix.length()),
+                            entry.getValue());
+                    }
+                }
+                values.putAll(environmentValues);
+                values.put(ENV_KEY, environment);
+            } else {
+                environment = null;
+            }
+
+            // 4. .env file and environment variables: KEY_NAME for known keys, dotted names as they are
+            Map<String, String> environmentOverrides = new HashMap<>();
+            for (String key : values.keySet()) {
+                String value = dotenv.get(toEnvironmentVariable(key));
+                if (value != null) {
+                    environmentOverrides.put(key, value);
+                }
+            }
+            for (DotenvEntry entry : dotenv.entries(Dotenv.Filter.DECLARED_IN_ENV_FILE)) {
+                if (entry.getKey().indexOf('.') >= 0) {
+                    environmentOverrides.put(entry.getKey(), entry.getValue());
+                }
+            }
+            values.putAll(environmentOverrides);
+
+            // 5. System properties
+            for (String key : systemProperties.stringPropertyNames()) {
+                values.put(key, systemProperties.getProperty(key));
+            }
+
+            return new Snapshot(values, environment);
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,309 @@
+package utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DriverBinaryResolver finds the driver executable (chromedriver, geckodriver) for a browser
+ * once per JVM and remembers it on disk across runs.
+ *
+ * Resolution order:
+ * - An explicit webdriver.chrome.driver / webdriver.gecko.driver system property
+ * - The on-disk cache, if it was written for the locally installed browser version
+ * - WebDriverManager (network lookup), skipped when webdriver.offline=true
+ * - A driver executable found on the PATH
+ *
+ * When nothing is found the caller falls back to Selenium Manager.
+ *
+ * Configuration (config.properties or system properties):
+ * webdriver.offline=false
+ * webdriver.resolution.cacheFile=~/.cache/automation-framework/driver-cache.properties
+ */
+public class DriverBinaryResolver {
+    private static final Logger LOGGER = Logger.getLogger(DriverBinaryResolver.class.getName());
+
+    private static final String DEFAULT_CACHE_FILE = System.getProperty("user.home")
+        + "/.cache/automation-framework/driver-cache.properties";
+    private static final Pattern VERSION_PATTERN = Pattern.compile("(\\d+(\\.\\d+)+)");
+    private static final long VERSION_COMMAND_TIMEOUT = 5; // seconds
+    private static final boolean WINDOWS = System.getProperty("os.name", "").toLowerCase().contains("win");
+    private static final String UNKNOWN_VERSION = "unknown";
+
+    // Driver binary resolved for each browser in this JVM (empty if none was found)
+    private static final Map<String, Optional<Path>> RESOLVED = new ConcurrentHashMap<>();
+
+    // One lock per browser, so resolving one browser doesn't hold up the other
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+    /**
+     * Get the driver executable for a browser, resolving it on first use.
+     *
+     * @param browser Browser name (chrome or firefox)
+     * @return Path to the driver executable, or empty to let Selenium Manager decide
+     */
+    public static Optional<Path> resolve(String browser) {
+        String key = browser.toLowerCase();
+        Optional<Path> resolved = RESOLVED.get(key);
+        if (resolved != null) {
+            return resolved;
+        }
+        // Resolution runs processes and network requests, so it stays out of computeIfAbsent
+        synchronized (LOCKS.computeIfAbsent(key, k -> new Object())) {
+            resolved = RESOLVED.get(key);
+            if (resolved == null) {
+                resolved = lookup(key);
+                RESOLVED.put(key, resolved);
+            }
+            return resolved;
+        }
+    }
+
+    /**
+     * Look up the driver executable for a browser without consulting the in-memory cache.
+     *
+     * @param browser Browser name (chrome or firefox)
+     * @return Path to the driver executable, or empty if none was found
+     */
+    private static Optional<Path> lookup(String browser) {
+        boolean firefox = "firefox".equals(browser);
+        String driverProperty = firefox ? "webdriver.gecko.driver" : "webdriver.chrome.driver";
+        String driverName = firefox ? "geckodriver" : "chromedriver";
+
+        // 1. Explicit driver location
+        String explicit = System.getProperty(driverProperty);
+        if (explicit != null && Files.isExecutable(Paths.get(explicit))) {
+            LOGGER.info("Using " + driverName + " from " + driverProperty + ": " + explicit);
+            return Optional.of(Paths.get(explicit));
+        }
+
+        // 2. Driver resolved by an earlier run for the same browser version. Without a known
+        // version the cache can't tell whether the browser was upgraded, so it is not used
+        String browserVersion = detectBrowserVersion(browser);
+        boolean versionKnown = !UNKNOWN_VERSION.equals(browserVersion);
+        Path cacheFile = getCacheFile();
+        Properties cache = loadCache(cacheFile);
+        String cachedVersion = cache.getProperty(browser + ".browserVersion");
+        String cachedPath = cache.getProperty(browser + ".driverPath");
+        if (versionKnown && cachedPath != null && browserVersion.equals(cachedVersion)
+                && Files.isExecutable(Paths.get(cachedPath))) {
+            LOGGER.info("Using cached " + driverName + " for " + browser + " " + browserVersion + ": " + cachedPath);
+            return Optional.of(Paths.get(cachedPath));
+        }
+
+        // 3. Network lookup through WebDriverManager
+        if (!isOffline()) {
+            try {
+                WebDriverManager manager = firefox
+                    ? WebDriverManager.firefoxdriver()
+                    : WebDriverManager.chromedriver();
+                manager.setup();
+                String downloaded = manager.getDownloadedDriverPath();
+                if (downloaded != null) {
+                    if (versionKnown) {
+                        cache.setProperty(browser + ".browserVersion", browserVersion);
+                        cache.setProperty(browser + ".driverPath", downloaded);
+                        saveCache(cacheFile, cache);
+                    }
+                    LOGGER.info("Resolved " + driverName + " through WebDriverManager: " + downloaded);
+                    return Optional.of(Paths.get(downloaded));
+                }
+            } catch (Exception e) {
+                LOGGER.warning("WebDriverManager could not resolve " + driverName + ": " + e.getMessage());
+            }
+        }
+
+        // 4. Driver installed on the PATH
+        Optional<Path> onPath = findOnPath(driverName);
+        if (onPath.isPresent()) {
+            LOGGER.info("Using " + driverName + " found on PATH: " + onPath.get());
+            return onPath;
+        }
+
+        LOGGER.warning("No " + driverName + " found, falling back to Selenium Manager");
+        return Optional.empty();
+    }
+
+    /**
+     * Detect the version of the locally installed browser. On Windows the version is read
+     * from the registry, elsewhere the browser is run with --version.
+     *
+     * @param browser Browser name (chrome or firefox)
+     * @return Browser version, or "unknown" if it could not be detected
+     */
+    private static String detectBrowserVersion(String browser) {
+        boolean firefox = "firefox".equals(browser);
+        if (WINDOWS) {
+            String[][] queries = firefox
+                ? new String[][] {
+                    {"reg", "query", "HKLM\\SOFTWARE\\Mozilla\\Mozilla Firefox", "/v", "CurrentVersion"},
+                    {"reg", "query", "HKCU\\SOFTWARE\\Mozilla\\Mozilla Firefox", "/v", "CurrentVersion"}}
+                : new String[][] {
+                    {"reg", "query", "HKCU\\Software\\Google\\Chrome\\BLBeacon", "/v", "version"},
+                    {"reg", "query", "HKLM\\Software\\Google\\Chrome\\BLBeacon", "/v", "version"}};
+            for (String[] query : queries) {
+                Optional<String> version = runVersionCommand(query);
+                if (version.isPresent()) {
+                    return version.get();
+                }
+            }
+            return UNKNOWN_VERSION;
+        }
+
+        String[] candidates = firefox
+            ? new String[] {"firefox", "/Applications/Firefox.app/Contents/MacOS/firefox"}
+            : new String[] {"google-chrome", "google-chrome-stable", "chromium", "chromium-browser",
+                "/Applications/Google Chrome.app/Contents/MacOS/Google Chrome"};
+
+        for (String candidate : candidates) {
+            Optional<Path> binary = candidate.startsWith("/")
+                ? Optional.of(Paths.get(candidate)).filter(Files::isExecutable)
+                : findOnPath(candidate);
+            if (binary.isEmpty()) {
+                continue;
+            }
+            Optional<String> version = runVersionCommand(binary.get().toString(), "--version");
+            if (version.isPresent()) {
+                return version.get();
+            }
+        }
+        return UNKNOWN_VERSION;
+    }
+
+    /**
+     * Run a command and find a version number in its output. The output goes to a temporary
+     * file so that a command which hangs is stopped after the timeout instead of blocking a read.
+     *
+     * @param command Command and arguments
+     * @return Version number, or empty if the command failed, timed out or printed no version
+     */
+    private static Optional<String> runVersionCommand(String... command) {
+        Path output = null;
+        try {
+            output = Files.createTempFile("browser-version", ".txt");
+            Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile())
+                .start();
+            if (!process.waitFor(VERSION_COMMAND_TIMEOUT, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                LOGGER.fine(command[0] + " did not finish within " + VERSION_COMMAND_TIMEOUT + "s");
+                return Optional.empty();
+            }
+            Matcher matcher = VERSION_PATTERN.matcher(new String(Files.readAllBytes(output), StandardCharsets.UTF_8));
+            return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+        } catch (IOException e) {
+            LOGGER.fine("Could not run " + command[0] + ": " + e.getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } finally {
+            if (output != null) {
+                try {
+                    Files.deleteIfExists(output);
+                } catch (IOException e) {
+                    // Temporary file, leave it
+                }
+            }
+        }
+    }
+
+    /**
+     * Find an executable on the PATH.
+     *
+     * @param name Executable name without extension
+     * @return Path to the executable, or empty if it is not on the PATH
+     */
+    private static Optional<Path> findOnPath(String name) {
+        String path = System.getenv("PATH");
+        if (path == null) {
+            return Optional.empty();
+        }
+        String fileName = WINDOWS ? name + ".exe" : name;
+        for (String dir : path.split(File.pathSeparator)) {
+            if (dir.isEmpty()) {
+                continue;
+            }
+            Path candidate = Paths.get(dir, fileName);
+            if (Files.isExecutable(candidate)) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Check whether network lookups are disabled.
+     *
+     * @return true if running offline
+     */
+    private static boolean isOffline() {
+        return ConfigProperties.getBooleanProperty("webdriver.offline", false);
+    }
+
+    /**
+     * Get the location of the on-disk resolution cache.
+     *
+     * @return Cache file path
+     */
+    private static Path getCacheFile() {
+        String file = ConfigProperties.getProperty("webdriver.resolution.cacheFile", DEFAULT_CACHE_FILE);
+        return Paths.get(file.replaceFirst("^~", System.getProperty("user.home")));
+    }
+
+    /**
+     * Load the on-disk resolution cache.
+     *
+     * @param cacheFile Cache file path
+     * @return Cached entries, empty if the file does not exist or cannot be read
+     */
+    private static Properties loadCache(Path cacheFile) {
+        Properties cache = new Properties();
+        if (Files.exists(cacheFile)) {
+            try (InputStream input = Files.newInputStream(cacheFile)) {
+                cache.load(input);
+            } catch (IOException e) {
+                LOGGER.warning("Error reading driver cache " + cacheFile + ": " + e.getMessage());
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Write the resolution cache to disk. The file is replaced atomically so that
+     * concurrent runs never read a half-written cache.
+     *
+     * @param cacheFile Cache file path
+     * @param cache Entries to write
+     */
+    private static synchronized void saveCache(Path cacheFile, Properties cache) {
+        try {
+            Path dir = cacheFile.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path temp = Files.createTempFile(dir, "driver-cache", ".tmp");
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                cache.store(output, "Resolved WebDriver binaries");
+            }
+            Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warning("Error writing driver cache " + cacheFile + ": " + e.getMessage());
+        }
+    }
+}
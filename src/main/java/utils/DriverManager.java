@@ -3,43 +3,76 @@ package utils;
 import org.openqa.selenium.WebDriver;
 
 /**
- * DriverManager implements the Singleton pattern to manage WebDriver instances.
- * 
+ * DriverManager gives each test thread its own WebDriver leased from the DriverPool.
+ *
  * This class ensures that:
- * - Only one WebDriver instance is created throughout the test execution
- * - The WebDriver is properly initialized when needed
- * - The WebDriver is properly terminated when tests complete
- * - All tests use the same WebDriver instance
- * 
+ * - Every thread works with exactly one WebDriver at a time
+ * - Threads never share a browser, so scenarios can run in parallel
+ * - Sessions are returned to the pool for reuse instead of being quit
+ * - All sessions are properly terminated when tests complete
+ *
  * This pattern helps with:
- * - Reducing resource usage by preventing multiple browser instances
- * - Sharing browser state across test steps
+ * - Bounding resource usage through the pool's maximum size
+ * - Avoiding a browser launch for every scenario
  * - Centralizing WebDriver management logic
  */
 public class DriverManager {
-    // Single WebDriver instance shared across all tests
-    private static WebDriver driver;
+    // WebDriver leased by the current thread, if any
+    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
 
     /**
-     * Gets the singleton WebDriver instance, creating it if necessary.
-     * a
+     * Gets the WebDriver leased by the current thread, leasing one from the pool if necessary.
+     *
      * @return The WebDriver instance
      */
     public static WebDriver getDriver() {
-        if (driver == null) {
-            driver = WebDriverFactory.createWebDriver();
+        WebDriver current = driver.get();
+        if (current == null) {
+            current = DriverPool.getInstance().lease();
+            driver.set(current);
         }
-        return driver;
+        return current;
     }
 
     /**
-     * Quits the WebDriver instance if it exists and sets it to null.
-     * Should be called after tests complete to clean up resources.
+     * Gets the WebDriver leased by the current thread without leasing a new one.
+     *
+     * @return The WebDriver instance or null if the thread holds no lease
+     */
+    public static WebDriver getCurrentDriver() {
+        return driver.get();
+    }
+
+    /**
+     * Returns the current thread's WebDriver to the pool.
+     * Should be called when a scenario completes so another thread can reuse the browser.
+     */
+    public static void releaseDriver() {
+        WebDriver current = driver.get();
+        if (current != null) {
+            driver.remove();
+            DriverPool.getInstance().release(current);
+        }
+    }
+
+    /**
+     * Quits the current thread's WebDriver instead of returning it to the pool.
+     * Use this when the browser is known to be in a bad state.
      */
     public static void quitDriver() {
-        if (driver != null) {
-            driver.quit();
-            driver = null;
+        WebDriver current = driver.get();
+        if (current != null) {
+            driver.remove();
+            DriverPool.getInstance().retire(current);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Quits every WebDriver owned by the pool.
+     * Should be called after all tests complete to clean up resources.
+     */
+    public static void quitAll() {
+        driver.remove();
+        DriverPool.getInstance().shutdown();
+    }
+}
@@ -0,0 +1,448 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * DriverPool hands out WebDriver sessions to test threads and takes them back afterwards.
+ *
+ * The pool:
+ * - Caps the number of live browser sessions at a configurable maximum
+ * - Reuses idle sessions instead of launching a new browser for every lease
+ * - Health-checks an idle session before handing it out and discards dead ones
+ * - Blocks a leasing thread until a slot frees up, up to a configurable timeout
+ * - Resets a returned session (windows, storage, cookies) so the next scenario starts clean
+ * - Recycles a session after a number of scenarios or when it cannot be reset
+ * - Optionally launches browsers in the background ahead of demand and replaces retired ones
+ * - Quits every session it still owns when the JVM shuts down
+ * - Follows configuration reloads: resizes itself, applies new timeouts to sessions as
+ *   they are leased and replaces sessions launched with outdated browser settings
+ *
+ * Configuration (config.properties or system properties):
+ * driver.pool.maxSize=4
+ * driver.pool.leaseTimeout=120
+ * driver.session.reuse=false
+ * driver.session.maxScenarios=50
+ * driver.pool.warmup=2
+ */
+public class DriverPool {
+    private static final Logger LOGGER = Logger.getLogger(DriverPool.class.getName());
+
+    // Default pool settings
+    private static final int DEFAULT_MAX_SIZE = Runtime.getRuntime().availableProcessors();
+    private static final int DEFAULT_LEASE_TIMEOUT = 120; // seconds
+    private static final int DEFAULT_MAX_SCENARIOS = 50; // 0 means no limit
+    private static final int DEFAULT_WARMUP_SIZE = 0;
+    private static final long WAIT_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final DriverPool INSTANCE = new DriverPool();
+
+    // Settings that follow configuration reloads
+    private volatile int maxSize;
+    private volatile int leaseTimeout;
+    private volatile boolean reuseSessions;
+    private volatile int maxScenariosPerSession;
+    private final int warmUpSize;
+
+    // Launches browsers ahead of demand
+    private final ExecutorService warmUpExecutor;
+    private final AtomicInteger pendingLaunches = new AtomicInteger();
+    private volatile boolean closed;
+
+    // One permit per session that may exist at the same time (idle or leased)
+    private final ResizableSemaphore slots;
+
+    // Sessions that are alive but not leased by any thread
+    private final BlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+
+    // Sessions currently handed out to a thread
+    private final Set<WebDriver> leased = ConcurrentHashMap.newKeySet();
+
+    // Bookkeeping for each live session
+    private final Map<WebDriver, Session> sessions = new ConcurrentHashMap<>();
+
+    // Bumped when browser launch settings or timeouts and wait settings change in a configuration reload
+    private final AtomicInteger optionsGeneration = new AtomicInteger();
+    private final AtomicInteger timeoutsGeneration = new AtomicInteger();
+
+    private DriverPool() {
+        this.maxSize = Math.max(1, ConfigProperties.getIntProperty("driver.pool.maxSize", DEFAULT_MAX_SIZE));
+        this.leaseTimeout = ConfigProperties.getIntProperty("driver.pool.leaseTimeout", DEFAULT_LEASE_TIMEOUT);
+        this.reuseSessions = ConfigProperties.getBooleanProperty("driver.session.reuse", false);
+        this.maxScenariosPerSession = ConfigProperties.getIntProperty("driver.session.maxScenarios", DEFAULT_MAX_SCENARIOS);
+        this.warmUpSize = Math.min(maxSize, Math.max(0, ConfigProperties.getIntProperty("driver.pool.warmup", DEFAULT_WARMUP_SIZE)));
+        this.slots = new ResizableSemaphore(maxSize);
+        this.warmUpExecutor = ExecutorFactory.newFixedExecutor("driver-warmup", warmUpSize);
+
+        ConfigProperties.addChangeListener(this::onConfigurationChange);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+        LOGGER.info("Initialized DriverPool with max size: " + maxSize);
+    }
+
+    /**
+     * Gets the shared pool instance.
+     *
+     * @return The DriverPool
+     */
+    public static DriverPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Leases a healthy WebDriver session, reusing an idle one when possible.
+     * Blocks while the pool is exhausted, picking up sessions returned by other
+     * threads or launched in the background as soon as they become idle.
+     *
+     * @return A WebDriver session owned by the caller until it is released
+     * @throws RuntimeException if no session becomes available within the lease timeout
+     */
+    public WebDriver lease() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(leaseTimeout);
+        try {
+            while (true) {
+                // Prefer an idle session: it already holds a slot
+                WebDriver driver = idle.pollFirst();
+                if (driver != null) {
+                    if (isHealthy(driver)) {
+                        applyChangedTimeouts(driver);
+                        leased.add(driver);
+                        return driver;
+                    }
+                    LOGGER.warning("Discarding unhealthy idle WebDriver session");
+                    destroy(driver);
+                    replenish();
+                    continue;
+                }
+
+                // Launch a new session if the pool has room and no background launch
+                // is about to deliver one
+                if (pendingLaunches.get() == 0 && slots.tryAcquire()) {
+                    driver = launch();
+                    leased.add(driver);
+                    return driver;
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new RuntimeException("No WebDriver available after " + leaseTimeout
+                        + "s (pool max size: " + maxSize + ")");
+                }
+
+                // Wait for a session to be returned, warmed up, or for a slot to free up
+                driver = idle.pollFirst(Math.min(remaining, WAIT_INTERVAL_NANOS), TimeUnit.NANOSECONDS);
+                if (driver != null) {
+                    idle.offerFirst(driver);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a WebDriver", e);
+        }
+    }
+
+    /**
+     * Launches browsers in the background until the configured number of warm
+     * sessions is idle, so the first scenarios on each thread don't wait for a launch.
+     * Does nothing when driver.pool.warmup is 0.
+     */
+    public void warmUp() {
+        for (int i = 0; i < warmUpSize; i++) {
+            replenish();
+        }
+    }
+
+    /**
+     * Returns a leased session to the pool so another thread can reuse it.
+     * The session is reset first; it is quit instead when the pool has been shrunk below
+     * its live sessions, when session reuse is disabled, when it has served its maximum
+     * number of scenarios or when the reset fails.
+     *
+     * @param driver The session to return
+     */
+    public void release(WebDriver driver) {
+        if (driver == null || !leased.remove(driver)) {
+            return;
+        }
+
+        // The pool was shrunk below the number of live sessions
+        if (slots.availablePermits() < 0) {
+            LOGGER.info("Quitting WebDriver session above the resized pool maximum");
+            destroy(driver);
+            return;
+        }
+
+        if (!reuseSessions) {
+            destroy(driver);
+            replenish();
+            return;
+        }
+
+        Session session = sessions.get(driver);
+        if (session != null && session.optionsGeneration != optionsGeneration.get()) {
+            LOGGER.info("Recycling WebDriver session launched with outdated browser settings");
+            destroy(driver);
+            replenish();
+            return;
+        }
+
+        int scenarios = session != null ? ++session.scenarios : 1;
+        if (maxScenariosPerSession > 0 && scenarios >= maxScenariosPerSession) {
+            LOGGER.info("Recycling WebDriver session after " + scenarios + " scenarios");
+            destroy(driver);
+            replenish();
+            return;
+        }
+
+        if (!SessionResetter.reset(driver)) {
+            destroy(driver);
+            replenish();
+            return;
+        }
+        idle.offerFirst(driver);
+    }
+
+    /**
+     * Quits a leased session and frees its slot instead of returning it to the pool.
+     *
+     * @param driver The session to retire
+     */
+    public void retire(WebDriver driver) {
+        if (driver == null || !leased.remove(driver)) {
+            return;
+        }
+        destroy(driver);
+        replenish();
+    }
+
+    /**
+     * Quits all sessions owned by the pool, leased or idle.
+     */
+    public void shutdown() {
+        closed = true;
+        warmUpExecutor.shutdownNow();
+
+        WebDriver driver;
+        while ((driver = idle.pollFirst()) != null) {
+            destroy(driver);
+        }
+        for (WebDriver leasedDriver : leased) {
+            if (leased.remove(leasedDriver)) {
+                destroy(leasedDriver);
+            }
+        }
+    }
+
+    /**
+     * Gets the maximum number of concurrent sessions.
+     *
+     * @return Maximum pool size
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Checks whether a session still responds to commands.
+     *
+     * @param driver WebDriver to check
+     * @return true if the session is usable, false otherwise
+     */
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Quits a session and gives its slot back to the pool.
+     *
+     * @param driver WebDriver to quit
+     */
+    private void destroy(WebDriver driver) {
+        sessions.remove(driver);
+        WaitEngine.discard(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            LOGGER.warning("Error quitting WebDriver: " + e.getMessage());
+        } finally {
+            slots.release();
+        }
+    }
+
+    /**
+     * Creates a new session for a slot the caller already holds.
+     * The slot is given back if the browser fails to start.
+     *
+     * @return The new WebDriver
+     */
+    private WebDriver launch() {
+        // Read the generations first, so a reload during the launch marks the session as outdated
+        Session session = new Session(optionsGeneration.get(), timeoutsGeneration.get());
+        try {
+            WebDriver driver = WebDriverFactory.createWebDriver();
+            sessions.put(driver, session);
+            return driver;
+        } catch (RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Launches one session in the background and parks it as idle, if warm-up is
+     * enabled, the pool has room and fewer than the warm-up size are idle or starting.
+     */
+    private void replenish() {
+        if (warmUpSize == 0 || closed) {
+            return;
+        }
+        if (idle.size() + pendingLaunches.get() >= Math.min(warmUpSize, maxSize) || !slots.tryAcquire()) {
+            return;
+        }
+
+        pendingLaunches.incrementAndGet();
+        warmUpExecutor.execute(() -> {
+            try {
+                WebDriver driver = launch();
+                if (closed) {
+                    destroy(driver);
+                } else {
+                    idle.offerLast(driver);
+                }
+            } catch (RuntimeException e) {
+                LOGGER.warning("Background WebDriver launch failed: " + e.getMessage());
+            } finally {
+                pendingLaunches.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Apply timeouts and wait settings changed by a configuration reload to a session the
+     * caller now owns. The session's WaitEngine is dropped so the next wait rebuilds it
+     * with the new settings.
+     *
+     * @param driver Leased WebDriver
+     */
+    private void applyChangedTimeouts(WebDriver driver) {
+        Session session = sessions.get(driver);
+        int current = timeoutsGeneration.get();
+        if (session != null && session.timeoutsGeneration != current) {
+            WebDriverFactory.configureDriverTimeouts(driver);
+            WaitEngine.discard(driver);
+            session.timeoutsGeneration = current;
+        }
+    }
+
+    /**
+     * React to a configuration reload.
+     *
+     * @param changedKeys Keys that changed
+     */
+    private void onConfigurationChange(Set<String> changedKeys) {
+        if (changedKeys.contains("driver.pool.maxSize")) {
+            resize(Math.max(1, ConfigProperties.getIntProperty("driver.pool.maxSize", DEFAULT_MAX_SIZE)));
+        }
+        if (changedKeys.contains("driver.pool.leaseTimeout")) {
+            leaseTimeout = ConfigProperties.getIntProperty("driver.pool.leaseTimeout", DEFAULT_LEASE_TIMEOUT);
+        }
+        if (changedKeys.contains("driver.session.reuse")) {
+            reuseSessions = ConfigProperties.getBooleanProperty("driver.session.reuse", false);
+        }
+        if (changedKeys.contains("driver.session.maxScenarios")) {
+            maxScenariosPerSession = ConfigProperties.getIntProperty("driver.session.maxScenarios", DEFAULT_MAX_SCENARIOS);
+        }
+        if (changedKeys.stream().anyMatch(
+                key -> key.startsWith("webdriver.timeouts.") || key.startsWith("webdriver.wait."))) {
+            timeoutsGeneration.incrementAndGet();
+        }
+        if (changedKeys.stream().anyMatch(DriverPool::isBrowserLaunchSetting)) {
+            optionsGeneration.incrementAndGet();
+            // Idle sessions can be replaced right away; leased ones are replaced when released
+            WebDriver driver;
+            while ((driver = idle.pollLast()) != null) {
+                destroy(driver);
+                replenish();
+            }
+        }
+    }
+
+    /**
+     * Change the maximum number of sessions. When shrinking, idle sessions above the
+     * new maximum are quit; leased ones are quit as they come back.
+     *
+     * @param newSize New maximum pool size
+     */
+    private synchronized void resize(int newSize) {
+        int delta = newSize - maxSize;
+        if (delta == 0) {
+            return;
+        }
+        if (delta > 0) {
+            slots.release(delta);
+        } else {
+            slots.reduce(-delta);
+            WebDriver driver;
+            while (slots.availablePermits() < 0 && (driver = idle.pollLast()) != null) {
+                destroy(driver);
+            }
+        }
+        maxSize = newSize;
+        LOGGER.info("Resized DriverPool to max size: " + newSize);
+    }
+
+    /**
+     * Check whether a key only takes effect when a browser is launched.
+     *
+     * @param key Property key
+     * @return true for browser selection, browser options and resource blocking settings
+     */
+    private static boolean isBrowserLaunchSetting(String key) {
+        return key.equals("browser") || key.startsWith("chrome.") || key.startsWith("firefox.")
+            || key.startsWith("browser.block.") || key.equals("webdriver.pageLoadStrategy");
+    }
+
+    /**
+     * Bookkeeping for one live session. Only the thread that holds the session touches it;
+     * handing the session over through the pool publishes the changes.
+     */
+    private static class Session {
+        private final int optionsGeneration;
+        private int timeoutsGeneration;
+        private int scenarios;
+
+        Session(int optionsGeneration, int timeoutsGeneration) {
+            this.optionsGeneration = optionsGeneration;
+            this.timeoutsGeneration = timeoutsGeneration;
+        }
+    }
+
+    /**
+     * Semaphore whose number of permits can be lowered at runtime.
+     */
+    private static class ResizableSemaphore extends Semaphore {
+        private static final long serialVersionUID = 1L;
+
+        ResizableSemaphore(int permits) {
+            super(permits, true);
+        }
+
+        void reduce(int reduction) {
+            reducePermits(reduction);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Creates the threads and executors for background work: API calls, data setup,
+ * screenshot writing, report archiving and browser warm-up.
+ *
+ * Two strategies are available:
+ * - platform: daemon platform threads in pools of a fixed size (default)
+ * - virtual: virtual threads, one per task, so thousands of blocking calls don't need
+ *   thousands of platform threads. Requires Java 21 (see the java21 Maven profile);
+ *   on older runtimes the platform strategy is used instead.
+ *
+ * Configuration (config.properties or system properties):
+ * executor.strategy=platform
+ *
+ * Usage example:
+ * ExecutorService executor = ExecutorFactory.newUnboundedExecutor("data-setup");
+ */
+public class ExecutorFactory {
+    private static final Logger LOGGER = Logger.getLogger(ExecutorFactory.class.getName());
+
+    private static final String PLATFORM = "platform";
+    private static final String VIRTUAL = "virtual";
+
+    private static final boolean USE_VIRTUAL_THREADS = resolveStrategy();
+
+    /**
+     * Check whether virtual threads are in use.
+     *
+     * @return true if executor.strategy=virtual and the runtime supports virtual threads
+     */
+    public static boolean isVirtual() {
+        return USE_VIRTUAL_THREADS;
+    }
+
+    /**
+     * Create a thread factory for the configured strategy. Platform threads are daemon threads.
+     *
+     * @param name Thread name prefix
+     * @return Thread factory
+     */
+    public static ThreadFactory threadFactory(String name) {
+        if (USE_VIRTUAL_THREADS) {
+            return virtualThreadFactory(name);
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Create an executor for CPU or resource bound work that must not exceed a number of threads.
+     * The limit applies to both strategies.
+     *
+     * @param name Thread name prefix
+     * @param threads Maximum number of tasks running at the same time
+     * @return Executor service
+     */
+    public static ExecutorService newFixedExecutor(String name, int threads) {
+        return Executors.newFixedThreadPool(Math.max(1, threads), threadFactory(name));
+    }
+
+    /**
+     * Create an executor for blocking I/O such as API calls. With virtual threads every task
+     * gets its own thread; with platform threads idle threads are reused.
+     *
+     * @param name Thread name prefix
+     * @return Executor service
+     */
+    public static ExecutorService newUnboundedExecutor(String name) {
+        if (USE_VIRTUAL_THREADS) {
+            try {
+                Method factoryMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+                return (ExecutorService) factoryMethod.invoke(null, virtualThreadFactory(name));
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException("Failed to create virtual thread executor", e);
+            }
+        }
+        return Executors.newCachedThreadPool(threadFactory(name));
+    }
+
+    /**
+     * Create a factory for named virtual threads through reflection, so this class
+     * still compiles and runs on Java 17.
+     *
+     * @param name Thread name prefix
+     * @return Virtual thread factory
+     */
+    private static ThreadFactory virtualThreadFactory(String name) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to create virtual thread factory", e);
+        }
+    }
+
+    /**
+     * Read executor.strategy and check that the runtime supports it.
+     *
+     * @return true if virtual threads should be used
+     */
+    private static boolean resolveStrategy() {
+        String strategy = ConfigProperties.getProperty("executor.strategy", PLATFORM).trim().toLowerCase();
+        if (!strategy.equals(VIRTUAL)) {
+            if (!strategy.equals(PLATFORM)) {
+                LOGGER.warning("Unknown executor.strategy '" + strategy + "', using platform threads");
+            }
+            return false;
+        }
+        try {
+            Thread.class.getMethod("ofVirtual");
+            LOGGER.info("Using virtual threads for background work");
+            return true;
+        } catch (NoSuchMethodException e) {
+            LOGGER.warning("executor.strategy=virtual needs Java 21 or later (running "
+                + Runtime.version() + "), using platform threads");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, in the style of HdrHistogram.
+ *
+ * Values are recorded in microseconds. Values below 128 get a bucket each; larger values
+ * share buckets whose width doubles with every power of two, which keeps the relative
+ * error below 1/64 (about 1.6%) at any magnitude while using a fixed, small array.
+ *
+ * Usage example:
+ * LatencyHistogram histogram = new LatencyHistogram();
+ * histogram.recordMicros(1500);
+ * long p99 = histogram.getPercentile(99.0);
+ */
+public class LatencyHistogram {
+    private static final int LINEAR_BUCKETS = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int MAX_SHIFT = 40; // Values up to 2^46 microseconds (about 2 years)
+    private static final int BUCKET_COUNT = LINEAR_BUCKETS + MAX_SHIFT * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Record one value.
+     *
+     * @param micros Latency in microseconds
+     */
+    public void recordMicros(long micros) {
+        long value = Math.max(0, micros);
+        buckets.incrementAndGet(indexOf(value));
+        count.incrementAndGet();
+        totalMicros.addAndGet(value);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Get the number of recorded values.
+     *
+     * @return Value count
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Get the sum of all recorded values.
+     *
+     * @return Total in microseconds
+     */
+    public long getTotalMicros() {
+        return totalMicros.get();
+    }
+
+    /**
+     * Get the largest recorded value.
+     *
+     * @return Maximum in microseconds
+     */
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * Get the mean of all recorded values.
+     *
+     * @return Mean in microseconds, 0 if nothing was recorded
+     */
+    public double getMeanMicros() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) totalMicros.get() / n;
+    }
+
+    /**
+     * Get the value at a percentile. The result is the upper bound of the bucket that
+     * contains the percentile, capped at the recorded maximum.
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return Value in microseconds, 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        long n = count.get();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    /**
+     * Get the bucket of a value.
+     *
+     * @param value Value in microseconds
+     * @return Bucket index
+     */
+    private static int indexOf(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        // Keep the 7 most significant bits: the top one picks the power of two, the other 6 the sub-bucket
+        int shift = 63 - Long.numberOfLeadingZeros(value) - 6;
+        if (shift > MAX_SHIFT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Get the largest value that falls into a bucket.
+     *
+     * @param index Bucket index
+     * @return Upper bound in microseconds
+     */
+    private static long upperBoundOf(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        long top = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+}
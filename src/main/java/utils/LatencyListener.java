@@ -0,0 +1,56 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * WebDriverListener that records the latency of every WebDriver command.
+ *
+ * WebDriverFactory applies it through an EventFiringDecorator when metrics.enabled=true.
+ * Commands are named after the interface that declares them, e.g. WebDriver.get or
+ * WebElement.click. Element lookups are also recorded per locator.
+ */
+public class LatencyListener implements WebDriverListener {
+
+    // Start times of the calls in progress on this thread; decorated calls can nest
+    private static final ThreadLocal<Deque<Long>> STARTED = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        STARTED.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method, args);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method, args);
+    }
+
+    /**
+     * Record the latency of the call that just ended.
+     *
+     * @param method Called method
+     * @param args Call arguments
+     */
+    private void finish(Method method, Object[] args) {
+        Long start = STARTED.get().poll();
+        if (start == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        LatencyRecorder.record(LatencyRecorder.COMMAND,
+            method.getDeclaringClass().getSimpleName() + "." + method.getName(), elapsed);
+        if (method.getName().startsWith("findElement") && args != null && args.length == 1 && args[0] instanceof By) {
+            LatencyRecorder.record(LatencyRecorder.LOCATOR, args[0].toString(), elapsed);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package utils;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Collects latency histograms for WebDriver commands, page object methods and Cucumber steps.
+ *
+ * Recording is enabled with metrics.enabled=true (config file or system property). When it
+ * is disabled, every record and time call returns immediately.
+ *
+ * Categories:
+ * - command: WebDriver and WebElement commands, recorded by LatencyListener
+ * - page: BasePage helper methods, named PageClass.method
+ * - step: Cucumber steps, named by their step definition pattern
+ * - locator: time spent finding elements, per locator
+ *
+ * Results are exported as latency.json and latency.csv with p50/p95/p99 per entry
+ * and the slowest locators (metrics.topLocators, 10 by default).
+ */
+public class LatencyRecorder {
+    private static final Logger LOGGER = Logger.getLogger(LatencyRecorder.class.getName());
+
+    public static final String COMMAND = "command";
+    public static final String PAGE = "page";
+    public static final String STEP = "step";
+    public static final String LOCATOR = "locator";
+
+    private static final int DEFAULT_TOP_LOCATORS = 10;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final boolean ENABLED = ConfigProperties.getBooleanProperty("metrics.enabled", false);
+
+    // Category -> name -> histogram
+    private static final Map<String, Map<String, LatencyHistogram>> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    /**
+     * Check whether latency recording is enabled.
+     *
+     * @return true if metrics.enabled is set
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Record one latency.
+     *
+     * @param category Category, e.g. LatencyRecorder.COMMAND
+     * @param name Name within the category
+     * @param nanos Elapsed time in nanoseconds
+     */
+    public static void record(String category, String name, long nanos) {
+        if (!ENABLED) {
+            return;
+        }
+        HISTOGRAMS.computeIfAbsent(category, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(name, key -> new LatencyHistogram())
+            .recordMicros(nanos / 1_000);
+    }
+
+    /**
+     * Time an action and record its latency.
+     *
+     * @param category Category, e.g. LatencyRecorder.PAGE
+     * @param name Name within the category
+     * @param action Action to run
+     * @param <T> The action's result type
+     * @return The action's result
+     */
+    public static <T> T time(String category, String name, Supplier<T> action) {
+        if (!ENABLED) {
+            return action.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(category, name, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Time an action without a result and record its latency.
+     *
+     * @param category Category, e.g. LatencyRecorder.PAGE
+     * @param name Name within the category
+     * @param action Action to run
+     */
+    public static void time(String category, String name, Runnable action) {
+        time(category, name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Write latency.json and latency.csv to a directory.
+     * Does nothing if recording is disabled or nothing was recorded.
+     *
+     * @param directory Output directory
+     */
+    public static void export(Path directory) {
+        if (!ENABLED || HISTOGRAMS.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            writeJson(directory.resolve("latency.json"));
+            writeCsv(directory.resolve("latency.csv"));
+            LOGGER.info("Latency metrics written to " + directory);
+        } catch (IOException e) {
+            LOGGER.severe("Failed to write latency metrics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Drop all recorded latencies.
+     */
+    public static void reset() {
+        HISTOGRAMS.clear();
+    }
+
+    /**
+     * Write the histograms and the slowest locators as JSON.
+     *
+     * @param file Output file
+     * @throws IOException if writing fails
+     */
+    private static void writeJson(Path file) throws IOException {
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(Files.newOutputStream(file), JsonEncoding.UTF8)) {
+            json.useDefaultPrettyPrinter();
+            json.writeStartObject();
+            json.writeStringField("generatedAt", Instant.now().toString());
+            json.writeObjectFieldStart("categories");
+            for (String category : new TreeSet<>(HISTOGRAMS.keySet())) {
+                json.writeArrayFieldStart(category);
+                for (Map.Entry<String, LatencyHistogram> entry : sorted(category, byTotal())) {
+                    writeEntry(json, entry);
+                }
+                json.writeEndArray();
+            }
+            json.writeEndObject();
+            json.writeArrayFieldStart("slowestLocators");
+            for (Map.Entry<String, LatencyHistogram> entry : getSlowestLocators()) {
+                writeEntry(json, entry);
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * Write one histogram summary as a JSON object.
+     *
+     * @param json JSON generator
+     * @param entry Name and histogram
+     * @throws IOException if writing fails
+     */
+    private static void writeEntry(JsonGenerator json, Map.Entry<String, LatencyHistogram> entry) throws IOException {
+        LatencyHistogram histogram = entry.getValue();
+        json.writeStartObject();
+        json.writeStringField("name", entry.getKey());
+        json.writeNumberField("count", histogram.getCount());
+        json.writeNumberField("meanMs", toMillis(histogram.getMeanMicros()));
+        json.writeNumberField("p50Ms", toMillis(histogram.getPercentile(50)));
+        json.writeNumberField("p95Ms", toMillis(histogram.getPercentile(95)));
+        json.writeNumberField("p99Ms", toMillis(histogram.getPercentile(99)));
+        json.writeNumberField("maxMs", toMillis(histogram.getMaxMicros()));
+        json.writeNumberField("totalMs", toMillis(histogram.getTotalMicros()));
+        json.writeEndObject();
+    }
+
+    /**
+     * Write one CSV row per histogram.
+     *
+     * @param file Output file
+     * @throws IOException if writing fails
+     */
+    private static void writeCsv(Path file) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("category,name,count,mean_ms,p50_ms,p95_ms,p99_ms,max_ms,total_ms\n");
+            for (String category : new TreeSet<>(HISTOGRAMS.keySet())) {
+                for (Map.Entry<String, LatencyHistogram> entry : sorted(category, byTotal())) {
+                    LatencyHistogram histogram = entry.getValue();
+                    out.write(category + "," + csv(entry.getKey()) + "," + histogram.getCount()
+                        + "," + toMillis(histogram.getMeanMicros())
+                        + "," + toMillis(histogram.getPercentile(50))
+                        + "," + toMillis(histogram.getPercentile(95))
+                        + "," + toMillis(histogram.getPercentile(99))
+                        + "," + toMillis(histogram.getMaxMicros())
+                        + "," + toMillis(histogram.getTotalMicros()) + "\n");
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the locators with the highest p95 latency.
+     *
+     * @return Up to metrics.topLocators entries, slowest first
+     */
+    private static List<Map.Entry<String, LatencyHistogram>> getSlowestLocators() {
+        int limit = ConfigProperties.getIntProperty("metrics.topLocators", DEFAULT_TOP_LOCATORS);
+        List<Map.Entry<String, LatencyHistogram>> locators = sorted(LOCATOR,
+            Comparator.comparingLong((Map.Entry<String, LatencyHistogram> entry) -> entry.getValue().getPercentile(95))
+                .reversed());
+        return locators.subList(0, Math.min(limit, locators.size()));
+    }
+
+    /**
+     * Get the histograms of a category in order.
+     *
+     * @param category Category
+     * @param order Sort order
+     * @return Sorted entries
+     */
+    private static List<Map.Entry<String, LatencyHistogram>> sorted(
+            String category, Comparator<Map.Entry<String, LatencyHistogram>> order) {
+        List<Map.Entry<String, LatencyHistogram>> entries =
+            new ArrayList<>(HISTOGRAMS.getOrDefault(category, Map.of()).entrySet());
+        entries.sort(order);
+        return entries;
+    }
+
+    /**
+     * Order entries by total time, largest first.
+     *
+     * @return Comparator
+     */
+    private static Comparator<Map.Entry<String, LatencyHistogram>> byTotal() {
+        return Comparator.comparingLong((Map.Entry<String, LatencyHistogram> entry) -> entry.getValue().getTotalMicros())
+            .reversed();
+    }
+
+    /**
+     * Convert microseconds to milliseconds with three decimals.
+     *
+     * @param micros Value in microseconds
+     * @return Value in milliseconds
+     */
+    private static double toMillis(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+
+    /**
+     * Quote a CSV field.
+     *
+     * @param value Field value
+     * @return Quoted value
+     */
+    private static String csv(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
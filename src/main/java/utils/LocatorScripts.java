@@ -0,0 +1,71 @@
+package utils;
+
+import org.openqa.selenium.By;
+
+/**
+ * JavaScript building blocks for resolving Selenium locators inside the browser.
+ *
+ * Scripts that evaluate several locators or wait for an element in the page itself
+ * need the same lookup rules as WebDriver. Locators are passed to the browser as the
+ * (using, value) pair from By.Remotable, e.g. ("css selector", "#login").
+ *
+ * The snippets define these functions:
+ * - findElement(using, value): first matching element or null
+ * - isVisible(element): approximation of WebElement.isDisplayed()
+ */
+public class LocatorScripts {
+
+    /**
+     * JavaScript functions findElement(using, value) and isVisible(element).
+     * Prepend this to a script that needs them.
+     */
+    public static final String FUNCTIONS =
+        "function findElement(using, value) {"
+        + "  switch (using) {"
+        + "    case 'css selector': return document.querySelector(value);"
+        + "    case 'xpath': return document.evaluate(value, document, null,"
+        + "        XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+        + "    case 'id': return document.getElementById(value);"
+        + "    case 'name': return document.getElementsByName(value)[0] || null;"
+        + "    case 'class name': return document.getElementsByClassName(value)[0] || null;"
+        + "    case 'tag name': return document.getElementsByTagName(value)[0] || null;"
+        + "    case 'link text':"
+        + "    case 'partial link text':"
+        + "      var links = document.getElementsByTagName('a');"
+        + "      for (var i = 0; i < links.length; i++) {"
+        + "        var text = (links[i].innerText || links[i].textContent || '').trim();"
+        + "        if (using === 'link text' ? text === value : text.indexOf(value) >= 0) { return links[i]; }"
+        + "      }"
+        + "      return null;"
+        + "    default: throw new Error('Unsupported locator strategy: ' + using);"
+        + "  }"
+        + "}"
+        + "function isVisible(element) {"
+        + "  if (!element || !element.isConnected) { return false; }"
+        + "  for (var node = element; node && node.nodeType === 1; node = node.parentElement) {"
+        + "    var style = window.getComputedStyle(node);"
+        + "    if (style.display === 'none') { return false; }"
+        + "    if (node === element && (style.visibility === 'hidden' || style.visibility === 'collapse'"
+        + "        || style.opacity === '0')) { return false; }"
+        + "  }"
+        + "  var rect = element.getBoundingClientRect();"
+        + "  return rect.width > 0 && rect.height > 0;"
+        + "}";
+
+    /**
+     * Convert a locator into the (using, value) pair understood by findElement().
+     *
+     * @param locator The By locator
+     * @return Two-element array {using, value}, or null if the locator cannot be evaluated in the browser
+     */
+    public static String[] toScriptArguments(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        if (!(parameters.value() instanceof String)) {
+            return null;
+        }
+        return new String[] {parameters.using(), (String) parameters.value()};
+    }
+}
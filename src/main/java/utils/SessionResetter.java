@@ -0,0 +1,114 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.net.URI;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * SessionResetter brings a used browser session back to a clean state so that
+ * the next scenario can reuse it instead of launching a new browser.
+ *
+ * A reset:
+ * - Collects the origins visited in every window from the navigation history
+ * - Replaces all windows with a single new blank tab, which also drops sessionStorage
+ * - Clears the storage (localStorage, IndexedDB, caches, service workers) of every visited origin
+ * - Deletes the cookies of all origins
+ *
+ * Only Chromium browsers can do this, through CDP. Other browsers can only clear the
+ * storage and cookies of the page currently loaded, so their sessions are recycled.
+ */
+public class SessionResetter {
+    private static final Logger LOGGER = Logger.getLogger(SessionResetter.class.getName());
+
+    /**
+     * Reset a browser session for reuse.
+     *
+     * @param driver WebDriver to reset
+     * @return true if the session is clean and can be reused, false if it should be recycled
+     */
+    public static boolean reset(WebDriver driver) {
+        // HasCdp rather than ChromiumDriver, so drivers wrapped by an EventFiringDecorator still qualify
+        if (!(driver instanceof HasCdp)) {
+            LOGGER.fine("Browser cannot clear the state of every visited origin, recycling the session");
+            return false;
+        }
+        HasCdp cdp = (HasCdp) driver;
+        try {
+            Set<String> origins = getVisitedOrigins(driver, cdp);
+            replaceWindows(driver);
+            for (String origin : origins) {
+                cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+            }
+            cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            return true;
+        } catch (Exception e) {
+            LOGGER.warning("Could not reset browser session: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Collect the origins of every page in the navigation history of every window.
+     *
+     * @param driver WebDriver to inspect
+     * @param cdp The same driver as a CDP client
+     * @return Origins such as https://example.com:8443
+     */
+    private static Set<String> getVisitedOrigins(WebDriver driver, HasCdp cdp) {
+        Set<String> origins = new LinkedHashSet<>();
+        for (String handle : driver.getWindowHandles()) {
+            driver.switchTo().window(handle);
+            Object entries = cdp.executeCdpCommand("Page.getNavigationHistory", Map.of()).get("entries");
+            if (entries instanceof List) {
+                for (Object entry : (List<?>) entries) {
+                    if (entry instanceof Map) {
+                        addOrigin(origins, String.valueOf(((Map<?, ?>) entry).get("url")));
+                    }
+                }
+            }
+            addOrigin(origins, driver.getCurrentUrl());
+        }
+        return origins;
+    }
+
+    /**
+     * Add the origin of an http or https URL.
+     *
+     * @param origins Origins to add to
+     * @param url Page URL
+     */
+    private static void addOrigin(Set<String> origins, String url) {
+        try {
+            URI uri = URI.create(url);
+            String scheme = uri.getScheme();
+            if (("http".equals(scheme) || "https".equals(scheme)) && uri.getHost() != null) {
+                origins.add(scheme + "://" + uri.getHost() + (uri.getPort() != -1 ? ":" + uri.getPort() : ""));
+            }
+        } catch (IllegalArgumentException e) {
+            // Not a URL with an origin, such as about:blank or data:
+        }
+    }
+
+    /**
+     * Open a new blank tab and close every other window.
+     *
+     * @param driver WebDriver to clean up
+     */
+    private static void replaceWindows(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        driver.switchTo().newWindow(WindowType.TAB);
+        String fresh = driver.getWindowHandle();
+        for (String handle : handles) {
+            driver.switchTo().window(handle);
+            driver.close();
+        }
+        driver.switchTo().window(fresh);
+    }
+}
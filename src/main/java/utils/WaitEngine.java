@@ -0,0 +1,463 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * WaitEngine evaluates wait conditions with adaptive polling and is shared per WebDriver.
+ *
+ * Compared to building a WebDriverWait for every call, the engine:
+ * - Is created once per driver and reused by all page objects and helpers
+ * - Polls quickly at first and backs off towards a maximum interval, so conditions that
+ *   are met almost immediately don't pay a fixed 500ms polling delay
+ * - Records how long each kind of condition actually took, see getStatistics()
+ *
+ * In "event" mode, page load and element waits are resolved inside the browser instead:
+ * one executeAsyncScript call installs a readystatechange listener or MutationObserver
+ * and returns as soon as the condition holds, so the whole wait costs a single round trip.
+ * If the script cannot finish (e.g. the page navigates away) the remaining time is polled.
+ *
+ * Configuration (config.properties or system properties):
+ * webdriver.timeouts.explicit=10
+ * webdriver.wait.mode=poll
+ * webdriver.wait.pollInitial=25
+ * webdriver.wait.pollMax=500
+ * webdriver.wait.pollBackoff=1.5
+ *
+ * Usage example:
+ * WaitEngine.forDriver(driver).until(ExpectedConditions.visibilityOfElementLocated(locator));
+ */
+public class WaitEngine {
+    private static final Logger LOGGER = Logger.getLogger(WaitEngine.class.getName());
+
+    // Default wait settings
+    private static final int DEFAULT_TIMEOUT = 10; // seconds
+    private static final int DEFAULT_POLL_INITIAL = 25; // milliseconds
+    private static final int DEFAULT_POLL_MAX = 500; // milliseconds
+    private static final double DEFAULT_POLL_BACKOFF = 1.5;
+    private static final int DEFAULT_SCRIPT_TIMEOUT = 30; // seconds, see WebDriverFactory
+    private static final long SCRIPT_TIMEOUT_MARGIN = 1000; // milliseconds
+
+    // Resolves once document.readyState is "complete" (or "interactive" if arguments[0] is true)
+    private static final String PAGE_READY_SCRIPT =
+        "var callback = arguments[arguments.length - 1];"
+        + "var domReadyIsEnough = arguments[0], timeout = arguments[1], done = false;"
+        + "function ready() {"
+        + "  var state = document.readyState;"
+        + "  return state === 'complete' || (domReadyIsEnough && state === 'interactive');"
+        + "}"
+        + "function finish(result) {"
+        + "  if (done) { return; }"
+        + "  done = true;"
+        + "  document.removeEventListener('readystatechange', check);"
+        + "  clearTimeout(timer);"
+        + "  callback(result);"
+        + "}"
+        + "function check() { if (ready()) { finish(true); } }"
+        + "if (ready()) { callback(true); return; }"
+        + "document.addEventListener('readystatechange', check);"
+        + "var timer = setTimeout(function () { finish(ready()); }, timeout);";
+
+    // Resolves with the element once it is visible (and enabled if arguments[2] is true), else null
+    private static final String ELEMENT_SCRIPT = LocatorScripts.FUNCTIONS
+        + "var callback = arguments[arguments.length - 1];"
+        + "var using = arguments[0], value = arguments[1], clickable = arguments[2], timeout = arguments[3];"
+        + "var done = false, observer, interval, timer;"
+        + "function match() {"
+        + "  var element = findElement(using, value);"
+        + "  return element && isVisible(element) && (!clickable || !element.disabled) ? element : null;"
+        + "}"
+        + "function finish(result) {"
+        + "  if (done) { return; }"
+        + "  done = true;"
+        + "  observer.disconnect();"
+        + "  clearInterval(interval);"
+        + "  clearTimeout(timer);"
+        + "  callback(result);"
+        + "}"
+        + "function check() { var element = match(); if (element) { finish(element); } }"
+        + "var element = match();"
+        + "if (element) { callback(element); return; }"
+        + "observer = new MutationObserver(check);"
+        + "observer.observe(document.documentElement || document, {childList: true, subtree: true, attributes: true});"
+        // Safety net for changes that don't mutate the DOM, such as stylesheet transitions
+        + "interval = setInterval(check, 100);"
+        + "timer = setTimeout(function () { finish(match()); }, timeout);";
+
+    // One engine per driver; each engine holds its driver, so entries are removed when the driver quits
+    private static final Map<WebDriver, WaitEngine> ENGINES = new ConcurrentHashMap<>();
+
+    // Time spent per kind of condition across all engines
+    private static final Map<String, WaitStatistics> STATISTICS = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+    private final Duration defaultTimeout;
+    private final boolean eventMode;
+    private final long scriptTimeoutMillis;
+    private final long pollInitial;
+    private final long pollMax;
+    private final double pollBackoff;
+
+    private WaitEngine(WebDriver driver) {
+        this.driver = driver;
+        this.defaultTimeout = Duration.ofSeconds(
+            ConfigProperties.getIntProperty("webdriver.timeouts.explicit", DEFAULT_TIMEOUT));
+        this.pollInitial = Math.max(1, ConfigProperties.getIntProperty("webdriver.wait.pollInitial", DEFAULT_POLL_INITIAL));
+        this.pollMax = Math.max(pollInitial, ConfigProperties.getIntProperty("webdriver.wait.pollMax", DEFAULT_POLL_MAX));
+        this.pollBackoff = Math.max(1.0, getDoubleSetting("webdriver.wait.pollBackoff", DEFAULT_POLL_BACKOFF));
+        this.eventMode = driver instanceof JavascriptExecutor && "event".equalsIgnoreCase(
+            ConfigProperties.getProperty("webdriver.wait.mode", "poll").trim());
+        this.scriptTimeoutMillis = Duration.ofSeconds(
+            ConfigProperties.getIntProperty("webdriver.timeouts.script", DEFAULT_SCRIPT_TIMEOUT)).toMillis();
+    }
+
+    /**
+     * Get the wait engine shared by everything that uses the given driver.
+     *
+     * @param driver The WebDriver instance
+     * @return The WaitEngine for that driver
+     */
+    public static WaitEngine forDriver(WebDriver driver) {
+        return ENGINES.computeIfAbsent(driver, WaitEngine::new);
+    }
+
+    /**
+     * Forget the wait engine of a driver that is about to quit.
+     *
+     * @param driver The WebDriver instance
+     */
+    public static void discard(WebDriver driver) {
+        ENGINES.remove(driver);
+    }
+
+    /**
+     * Wait until a condition returns a non-null, non-false value, using the default timeout.
+     *
+     * @param condition The condition to evaluate
+     * @param <T> The condition's result type
+     * @return The condition's result
+     * @throws TimeoutException if the condition is not met in time
+     */
+    public <T> T until(Function<? super WebDriver, T> condition) {
+        return until(condition, defaultTimeout);
+    }
+
+    /**
+     * Wait until a condition returns a non-null, non-false value.
+     * NotFoundException and StaleElementReferenceException are treated as "not yet".
+     *
+     * @param condition The condition to evaluate
+     * @param timeout Maximum time to wait
+     * @param <T> The condition's result type
+     * @return The condition's result
+     * @throws TimeoutException if the condition is not met in time
+     */
+    public <T> T until(Function<? super WebDriver, T> condition, Duration timeout) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long interval = pollInitial;
+        int polls = 0;
+        RuntimeException lastException = null;
+
+        while (true) {
+            polls++;
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    record(condition, start, polls, false);
+                    return value;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastException = e;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                record(condition, start, polls, true);
+                throw new TimeoutException("Expected condition failed: waiting for " + condition
+                    + " (tried for " + timeout.getSeconds() + " second(s), " + polls + " polls)", lastException);
+            }
+
+            sleep(Math.min(interval, Duration.ofNanos(remaining).toMillis() + 1));
+            interval = Math.min(pollMax, (long) Math.ceil(interval * pollBackoff));
+        }
+    }
+
+    /**
+     * Wait until the page has loaded.
+     *
+     * @param domReadyIsEnough true to accept readyState "interactive", false to require "complete"
+     * @param timeout Maximum time to wait
+     * @throws TimeoutException if the page does not load in time
+     */
+    public void untilPageLoaded(boolean domReadyIsEnough, Duration timeout) {
+        ExpectedCondition<Boolean> pageLoadCondition = new ExpectedCondition<Boolean>() {
+            public Boolean apply(WebDriver driver) {
+                Object readyState = ((JavascriptExecutor) driver).executeScript("return document.readyState");
+                return "complete".equals(readyState) || (domReadyIsEnough && "interactive".equals(readyState));
+            }
+            
+            @Override
+            public String toString() {
+                return "page to load";
+            }
+        };
+
+        long start = System.nanoTime();
+        if (eventMode) {
+            Object loaded = awaitInBrowser(PAGE_READY_SCRIPT, timeout, domReadyIsEnough);
+            if (Boolean.TRUE.equals(loaded)) {
+                record("page to load (event)", start, 1, false);
+                return;
+            }
+        }
+        until(pageLoadCondition, remaining(start, timeout));
+    }
+
+    /**
+     * Wait until an element is visible.
+     *
+     * @param locator The By locator for the element
+     * @param timeout Maximum time to wait
+     * @return The visible element
+     * @throws TimeoutException if the element is not visible in time
+     */
+    public WebElement untilVisible(By locator, Duration timeout) {
+        return untilElement(locator, false, timeout);
+    }
+
+    /**
+     * Wait until an element is visible and enabled.
+     *
+     * @param locator The By locator for the element
+     * @param timeout Maximum time to wait
+     * @return The clickable element
+     * @throws TimeoutException if the element is not clickable in time
+     */
+    public WebElement untilClickable(By locator, Duration timeout) {
+        return untilElement(locator, true, timeout);
+    }
+
+    /**
+     * Wait for an element, in the browser when running in event mode.
+     *
+     * @param locator The By locator for the element
+     * @param clickable true to also require the element to be enabled
+     * @param timeout Maximum time to wait
+     * @return The element once the condition holds
+     */
+    private WebElement untilElement(By locator, boolean clickable, Duration timeout) {
+        long start = System.nanoTime();
+        String[] arguments = LocatorScripts.toScriptArguments(locator);
+        if (eventMode && arguments != null) {
+            Object element = awaitInBrowser(ELEMENT_SCRIPT, timeout, arguments[0], arguments[1], clickable);
+            if (element instanceof WebElement) {
+                record(clickable ? "element to be clickable (event)" : "visibility of element (event)",
+                    start, 1, false);
+                return (WebElement) element;
+            }
+        }
+
+        ExpectedCondition<WebElement> condition = clickable
+            ? ExpectedConditions.elementToBeClickable(locator)
+            : ExpectedConditions.visibilityOfElementLocated(locator);
+        return until(condition, remaining(start, timeout));
+    }
+
+    /**
+     * Run a waiting script in the browser. The script receives the given arguments
+     * followed by its own timeout in milliseconds and the async callback.
+     *
+     * @param script Async script to run
+     * @param timeout Maximum time to wait
+     * @param arguments Script arguments
+     * @return The script's result, or null if it timed out or could not finish
+     */
+    private Object awaitInBrowser(String script, Duration timeout, Object... arguments) {
+        // Stay below the driver's script timeout so the browser answers before WebDriver gives up
+        long timeoutMillis = Math.max(0, Math.min(timeout.toMillis(), scriptTimeoutMillis - SCRIPT_TIMEOUT_MARGIN));
+        Object[] scriptArguments = new Object[arguments.length + 1];
+        System.arraycopy(arguments, 0, scriptArguments, 0, arguments.length);
+        scriptArguments[arguments.length] = timeoutMillis;
+
+        try {
+            return ((JavascriptExecutor) driver).executeAsyncScript(script, scriptArguments);
+        } catch (WebDriverException e) {
+            // e.g. the document was replaced by a navigation while the script was waiting
+            LOGGER.fine("In-browser wait did not finish, falling back to polling: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Get the time left of a wait.
+     *
+     * @param start System.nanoTime() when waiting started
+     * @param timeout Total time allowed
+     * @return Remaining time, zero if none is left
+     */
+    private static Duration remaining(long start, Duration timeout) {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return elapsed.compareTo(timeout) >= 0 ? Duration.ZERO : timeout.minus(elapsed);
+    }
+
+    /**
+     * Get the recorded wait statistics, keyed by condition description.
+     *
+     * @return Unmodifiable view of the statistics
+     */
+    public static Map<String, WaitStatistics> getStatistics() {
+        return Collections.unmodifiableMap(STATISTICS);
+    }
+
+    /**
+     * Log a summary line for every recorded kind of condition.
+     */
+    public static void logStatistics() {
+        STATISTICS.forEach((condition, stats) -> LOGGER.info("Wait '" + condition + "': " + stats));
+    }
+
+    /**
+     * Record how long a condition took.
+     *
+     * @param condition The condition that was evaluated
+     * @param start System.nanoTime() when waiting started
+     * @param polls Number of evaluations
+     * @param timedOut true if the condition was never met
+     */
+    private static void record(Object condition, long start, int polls, boolean timedOut) {
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        STATISTICS.computeIfAbsent(describe(condition), key -> new WaitStatistics())
+            .add(elapsedMillis, polls, timedOut);
+        LOGGER.fine("Waited " + elapsedMillis + "ms (" + polls + " polls) for " + condition);
+    }
+
+    /**
+     * Record how long a wait resolved in the browser took.
+     *
+     * @param description Kind of condition
+     * @param start System.nanoTime() when waiting started
+     * @param polls Number of round trips
+     * @param timedOut true if the condition was never met
+     */
+    private static void record(String description, long start, int polls, boolean timedOut) {
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        STATISTICS.computeIfAbsent(description, key -> new WaitStatistics())
+            .add(elapsedMillis, polls, timedOut);
+        LOGGER.fine("Waited " + elapsedMillis + "ms in the browser for " + description);
+    }
+
+    /**
+     * Reduce a condition to a description without element-specific details,
+     * e.g. "element to be clickable: By.id: login" becomes "element to be clickable".
+     *
+     * @param condition The condition to describe
+     * @return Short description of the kind of condition
+     */
+    private static String describe(Object condition) {
+        String description = String.valueOf(condition);
+        int separator = description.indexOf(':');
+        return separator > 0 ? description.substring(0, separator).trim() : description;
+    }
+
+    /**
+     * Sleep between polls.
+     *
+     * @param millis Time to sleep in milliseconds
+     */
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting", e);
+        }
+    }
+
+    /**
+     * Read a decimal setting.
+     *
+     * @param key Property key
+     * @param defaultValue Default value if the property is not set
+     * @return Decimal setting value
+     */
+    private static double getDoubleSetting(String key, double defaultValue) {
+        String value = ConfigProperties.getProperty(key);
+        try {
+            return (value != null) ? Double.parseDouble(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            LOGGER.warning("Invalid decimal property value for " + key + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Aggregated timings for one kind of wait condition.
+     */
+    public static class WaitStatistics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final LongAdder totalPolls = new LongAdder();
+        private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+
+        void add(long elapsedMillis, int polls, boolean timedOut) {
+            count.increment();
+            totalMillis.add(elapsedMillis);
+            totalPolls.add(polls);
+            maxMillis.accumulate(elapsedMillis);
+            if (timedOut) {
+                timeouts.increment();
+            }
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTimeouts() {
+            return timeouts.sum();
+        }
+
+        public long getTotalMillis() {
+            return totalMillis.sum();
+        }
+
+        public long getMaxMillis() {
+            return maxMillis.get();
+        }
+
+        public double getAverageMillis() {
+            long n = getCount();
+            return n == 0 ? 0 : (double) getTotalMillis() / n;
+        }
+
+        public double getAveragePolls() {
+            long n = getCount();
+            return n == 0 ? 0 : (double) totalPolls.sum() / n;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d, avg=%.1fms, max=%dms, avgPolls=%.1f, timeouts=%d",
+                getCount(), getAverageMillis(), getMaxMillis(), getAveragePolls(), getTimeouts());
+        }
+    }
+}
@@ -1,13 +1,22 @@
 package utils;
 
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxOptions;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.support.events.EventFiringDecorator;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 /**
@@ -15,10 +24,12 @@ import java.util.logging.Logger;
  * 
  * This factory class:
  * - Creates different types of WebDriver instances (Chrome, Firefox)
- * - Uses WebDriverManager to automatically download and configure browser drivers
+ * - Resolves browser drivers once per JVM through DriverBinaryResolver (cached on disk)
  * - Selects browser type based on the "browser" system property or config file
  * - Uses Chrome as the default browser if no browser is specified
- * - Configures timeouts and other browser settings
+ * - Configures timeouts, the page load strategy and other browser settings
+ * - Optionally blocks images, fonts, media and listed hosts to speed up page loads
+ * - Optionally records WebDriver command latencies (metrics.enabled) through LatencyListener
  * 
  * Usage example:
  * WebDriver driver = WebDriverFactory.createWebDriver();
@@ -34,6 +45,10 @@ public class WebDriverFactory {
     private static final int DEFAULT_IMPLICIT_WAIT = 0; // Best practice: use explicit waits instead
     private static final int DEFAULT_SCRIPT_TIMEOUT = 30;
     
+    // URL patterns blocked through CDP for each resource type
+    private static final String[] FONT_URL_PATTERNS = {"*.woff", "*.woff2", "*.ttf", "*.otf", "*.eot"};
+    private static final String[] MEDIA_URL_PATTERNS = {"*.mp4", "*.webm", "*.ogg", "*.mp3", "*.wav", "*.m3u8"};
+    
     /**
      * Creates and returns a new WebDriver instance based on browser config or system property.
      * 
@@ -47,17 +62,25 @@ public class WebDriverFactory {
         
         LOGGER.info("Creating WebDriver instance for browser: " + webdriver);
         
-        WebDriver driver;
+        WebDriver driver = null;
         
         try {
             // Setup appropriate WebDriver manager
             switch(webdriver.toLowerCase()) {
                 case "firefox":
                     LOGGER.info("Setting up Firefox driver");
-                    WebDriverManager.firefoxdriver().setup();
                     FirefoxOptions firefoxOptions = new FirefoxOptions();
                     configureFirefoxOptions(firefoxOptions);
-                    driver = new FirefoxDriver(firefoxOptions);
+                    
+                    Optional<Path> geckodriver = DriverBinaryResolver.resolve("firefox");
+                    if (geckodriver.isPresent()) {
+                        GeckoDriverService service = new GeckoDriverService.Builder()
+                            .usingDriverExecutable(geckodriver.get().toFile())
+                            .build();
+                        driver = new FirefoxDriver(service, firefoxOptions);
+                    } else {
+                        driver = new FirefoxDriver(firefoxOptions);
+                    }
                     break;
                     
                 case "chrome":
@@ -66,25 +89,38 @@ public class WebDriverFactory {
                     ChromeOptions chromeOptions = new ChromeOptions();
                     configureChromeOptions(chromeOptions);
                     
-                    // First try direct ChromeDriver instantiation
-                    try {
-                        LOGGER.info("Attempting direct ChromeDriver instantiation");
-                        driver = new ChromeDriver(chromeOptions);
-                    } catch (Exception e) {
-                        // If that fails, try WebDriverManager
-                        LOGGER.info("Direct instantiation failed, trying WebDriverManager: " + e.getMessage());
-                        WebDriverManager.chromedriver().setup();
+                    Optional<Path> chromedriver = DriverBinaryResolver.resolve("chrome");
+                    if (chromedriver.isPresent()) {
+                        ChromeDriverService service = new ChromeDriverService.Builder()
+                            .usingDriverExecutable(chromedriver.get().toFile())
+                            .build();
+                        driver = new ChromeDriver(service, chromeOptions);
+                    } else {
                         driver = new ChromeDriver(chromeOptions);
                     }
+                    applyChromeResourceBlocking((ChromeDriver) driver);
                     break;
             }
             
             // Configure timeouts
             configureDriverTimeouts(driver);
             
+            // Decorate last: browser-specific setup above needs the undecorated driver class
+            if (LatencyRecorder.isEnabled()) {
+                driver = new EventFiringDecorator<>(new LatencyListener()).decorate(driver);
+            }
+            
             return driver;
         } catch (Exception e) {
             LOGGER.severe("Exception in WebDriverFactory: " + e.getMessage());
+            // The browser may already be running if setup failed after launch
+            if (driver != null) {
+                try {
+                    driver.quit();
+                } catch (Exception quitError) {
+                    LOGGER.warning("Error quitting WebDriver after failed setup: " + quitError.getMessage());
+                }
+            }
             throw new RuntimeException("Failed to create WebDriver: " + e.getMessage(), e);
         }
     }
@@ -97,6 +133,14 @@ public class WebDriverFactory {
     private static void configureChromeOptions(ChromeOptions options) {
         // Common Chrome settings
         options.addArguments("--remote-allow-origins=*");
+        options.setPageLoadStrategy(getPageLoadStrategy());
+        
+        // Images are blocked through content settings; fonts, media and hosts through CDP
+        if (ConfigProperties.getBooleanProperty("browser.block.images", false)) {
+            Map<String, Object> prefs = new HashMap<>();
+            prefs.put("profile.managed_default_content_settings.images", 2);
+            options.setExperimentalOption("prefs", prefs);
+        }
         
         // Optional arguments based on configuration
         if (ConfigProperties.getBooleanProperty("chrome.headless", false)) {
@@ -122,6 +166,25 @@ public class WebDriverFactory {
      * @param options FirefoxOptions to configure
      */
     private static void configureFirefoxOptions(FirefoxOptions options) {
+        options.setPageLoadStrategy(getPageLoadStrategy());
+        
+        // Resource blocking through Firefox preferences
+        if (ConfigProperties.getBooleanProperty("browser.block.images", false)) {
+            options.addPreference("permissions.default.image", 2);
+        }
+        
+        if (ConfigProperties.getBooleanProperty("browser.block.fonts", false)) {
+            options.addPreference("browser.display.use_document_fonts", 0);
+        }
+        
+        if (ConfigProperties.getBooleanProperty("browser.block.media", false)) {
+            options.addPreference("media.autoplay.default", 5);
+        }
+        
+        if (!ConfigProperties.getProperty("browser.block.hosts", "").isEmpty()) {
+            LOGGER.warning("browser.block.hosts is only supported for Chrome, ignoring it for Firefox");
+        }
+        
         // Optional arguments based on configuration
         if (ConfigProperties.getBooleanProperty("firefox.headless", false)) {
             options.addArguments("-headless");
@@ -140,12 +203,61 @@ public class WebDriverFactory {
         }
     }
     
+    /**
+     * Block fonts, media and third-party hosts for a Chrome session through CDP.
+     * 
+     * @param driver ChromeDriver to configure
+     */
+    private static void applyChromeResourceBlocking(ChromeDriver driver) {
+        List<String> patterns = new ArrayList<>();
+        
+        if (ConfigProperties.getBooleanProperty("browser.block.fonts", false)) {
+            patterns.addAll(List.of(FONT_URL_PATTERNS));
+        }
+        
+        if (ConfigProperties.getBooleanProperty("browser.block.media", false)) {
+            patterns.addAll(List.of(MEDIA_URL_PATTERNS));
+        }
+        
+        String blockedHosts = ConfigProperties.getProperty("browser.block.hosts", "");
+        if (!blockedHosts.isEmpty()) {
+            for (String host : blockedHosts.split(",")) {
+                patterns.add("*://" + host.trim() + "/*");
+            }
+        }
+        
+        if (patterns.isEmpty()) {
+            return;
+        }
+        
+        driver.executeCdpCommand("Network.enable", Map.of());
+        driver.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", patterns));
+        LOGGER.info("Blocking URL patterns: " + patterns);
+    }
+    
+    /**
+     * Get the configured page load strategy.
+     * 
+     * @return PageLoadStrategy to use for new sessions (NORMAL by default)
+     */
+    public static PageLoadStrategy getPageLoadStrategy() {
+        String strategy = ConfigProperties.getProperty("webdriver.pageLoadStrategy", "normal");
+        
+        PageLoadStrategy pageLoadStrategy = PageLoadStrategy.fromString(strategy.trim().toLowerCase());
+        if (pageLoadStrategy == null) {
+            LOGGER.warning("Unknown page load strategy '" + strategy + "', using normal");
+            return PageLoadStrategy.NORMAL;
+        }
+        return pageLoadStrategy;
+    }
+    
     /**
      * Configure timeouts for the WebDriver.
+     * Also used by DriverPool to apply reloaded timeout settings to running sessions.
      * 
      * @param driver WebDriver to configure
      */
-    private static void configureDriverTimeouts(WebDriver driver) {
+    public static void configureDriverTimeouts(WebDriver driver) {
         // Read timeout values from configuration
         int pageLoadTimeout = ConfigProperties.getIntProperty(
             "webdriver.timeouts.pageLoad", DEFAULT_PAGE_LOAD_TIMEOUT);
@@ -1,18 +1,16 @@
 package utils;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedCondition;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 
 /**
  * Utility class providing WebDriver helper methods including explicit waits.
  * This helps make test automation more stable by properly waiting for elements.
+ * All waits run on the driver's shared WaitEngine.
  */
 public class WebDriverUtils {
     private static final int DEFAULT_TIMEOUT = 10; // Default timeout in seconds
@@ -26,8 +24,7 @@ public class WebDriverUtils {
      * @return The WebElement once it is clickable
      */
     public static WebElement waitForElementToBeClickable(WebDriver driver, By locator, int timeoutInSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return WaitEngine.forDriver(driver).untilClickable(locator, Duration.ofSeconds(timeoutInSeconds));
     }
     
     /**
@@ -50,8 +47,7 @@ public class WebDriverUtils {
      * @return The WebElement once it is visible
      */
     public static WebElement waitForElementToBeVisible(WebDriver driver, By locator, int timeoutInSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return WaitEngine.forDriver(driver).untilVisible(locator, Duration.ofSeconds(timeoutInSeconds));
     }
     
     /**
@@ -66,23 +62,21 @@ public class WebDriverUtils {
     }
     
     /**
-     * Wait for page to load completely using document.readyState.
+     * Wait for page to load using document.readyState.
+     * With the normal page load strategy this waits for "complete"; with eager or none
+     * it only waits until the DOM is ready ("interactive"), matching what the browser
+     * was told to wait for.
      * 
      * @param driver The WebDriver instance
      * @param timeoutInSeconds Maximum time to wait in seconds
      */
     public static void waitForPageToLoad(WebDriver driver, int timeoutInSeconds) {
-        ExpectedCondition<Boolean> pageLoadCondition = new ExpectedCondition<Boolean>() {
-            public Boolean apply(WebDriver driver) {
-                return ((JavascriptExecutor) driver).executeScript("return document.readyState").equals("complete");
-            }
-        };
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
-        wait.until(pageLoadCondition);
+        boolean domReadyIsEnough = WebDriverFactory.getPageLoadStrategy() != PageLoadStrategy.NORMAL;
+        WaitEngine.forDriver(driver).untilPageLoaded(domReadyIsEnough, Duration.ofSeconds(timeoutInSeconds));
     }
     
     /**
-     * Wait for page to load completely using document.readyState with default timeout.
+     * Wait for page to load using document.readyState with default timeout.
      * 
      * @param driver The WebDriver instance
      */
@@ -1,11 +1,21 @@
 package api.tests;
 
+import api.clients.AsyncUserApiClient;
+import api.clients.BulkResult;
 import api.clients.UserApiClient;
 import api.models.User;
 import io.restassured.response.Response;
 import org.testng.Assert;
-import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import utils.ExecutorFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 /**
  * Test class for User API endpoints.
@@ -13,14 +23,16 @@ import org.testng.annotations.Test;
  */
 public class UserApiTest extends BaseApiTest {
     private UserApiClient userClient;
+    private AsyncUserApiClient asyncUserClient;
     
     /**
-     * Sets up the test environment before each test method.
-     * Initializes the UserApiClient instance.
+     * Sets up the test environment once for the class.
+     * Initializes the UserApiClient and AsyncUserApiClient instances; the clients are stateless and share pooled connections.
      */
-    @BeforeMethod
+    @BeforeClass
     public void setUp() {
         userClient = new UserApiClient();
+        asyncUserClient = new AsyncUserApiClient();
     }
     
     /**
@@ -36,6 +48,22 @@ public class UserApiTest extends BaseApiTest {
         Assert.assertNotNull(response.getBody().asString());
     }
     
+    /**
+     * Tests streaming the GET /users endpoint.
+     * Verifies that:
+     * 1. Every user has an ID and a username as it is parsed
+     * 2. At least one user is returned
+     */
+    @Test
+    public void testStreamAllUsers() {
+        try (Stream<User> users = userClient.streamAllUsers(user -> {
+            Assert.assertNotNull(user.getId());
+            Assert.assertNotNull(user.getUsername());
+        })) {
+            Assert.assertTrue(users.count() > 0);
+        }
+    }
+    
     /**
      * Tests the GET /users/{id} endpoint.
      * Verifies that:
@@ -106,4 +134,83 @@ public class UserApiTest extends BaseApiTest {
         Response response = userClient.deleteUser(userId);
         Assert.assertEquals(response.getStatusCode(), 200);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Tests creating users concurrently with the async client.
+     * Verifies that:
+     * 1. Every response status code is 201 (Created)
+     * 2. Each created user has the username it was created with
+     */
+    @Test
+    public void testCreateUsersAsync() {
+        List<CompletableFuture<Response>> responses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User newUser = new User();
+            newUser.setUsername("asyncuser" + i);
+            newUser.setEmail("async" + i + "@example.com");
+            responses.add(asyncUserClient.createUser(newUser));
+        }
+        
+        for (int i = 0; i < responses.size(); i++) {
+            Response response = responses.get(i).join();
+            Assert.assertEquals(response.getStatusCode(), 201);
+            Assert.assertEquals(response.as(User.class).getUsername(), "asyncuser" + i);
+        }
+    }
+    
+    /**
+     * Tests fetching users concurrently with the blocking client on the configured executor
+     * (virtual threads with executor.strategy=virtual).
+     * Verifies that:
+     * 1. Every response status code is 200 (OK)
+     * 2. Each returned user has the requested ID
+     */
+    @Test
+    public void testGetUsersConcurrently() throws Exception {
+        ExecutorService executor = ExecutorFactory.newUnboundedExecutor("user-api-test");
+        try {
+            List<Future<Response>> responses = new ArrayList<>();
+            for (long userId = 1; userId <= 5; userId++) {
+                Long id = userId;
+                responses.add(executor.submit(() -> userClient.getUserById(id)));
+            }
+            
+            for (int i = 0; i < responses.size(); i++) {
+                Response response = responses.get(i).get();
+                Assert.assertEquals(response.getStatusCode(), 200);
+                Assert.assertEquals(response.as(User.class).getId(), Long.valueOf(i + 1));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    /**
+     * Tests creating and deleting users in bulk.
+     * Verifies that:
+     * 1. Every user is created with the username it was created with
+     * 2. Every created user is deleted
+     */
+    @Test
+    public void testCreateAndDeleteUsersInBulk() {
+        List<User> newUsers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User newUser = new User();
+            newUser.setUsername("bulkuser" + i);
+            newUser.setEmail("bulk" + i + "@example.com");
+            newUsers.add(newUser);
+        }
+        
+        BulkResult<User> created = userClient.createUsers(newUsers);
+        Assert.assertTrue(created.allSucceeded(), "Failed creates: " + created.getFailed());
+        List<Long> createdIds = new ArrayList<>();
+        for (BulkResult.ItemResult<User> result : created.getResults()) {
+            User createdUser = result.getResponse().as(User.class);
+            Assert.assertEquals(createdUser.getUsername(), result.getItem().getUsername());
+            createdIds.add(createdUser.getId());
+        }
+        
+        BulkResult<Long> deleted = userClient.deleteUsers(createdIds);
+        Assert.assertTrue(deleted.allSucceeded(), "Failed deletes: " + deleted.getFailed());
+    }
+}
@@ -2,37 +2,56 @@ package hooks;
 
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import utils.DriverManager;
+import utils.TestListener;
+
+import java.util.logging.Logger;
 
 /**
  * Cucumber Hooks class for managing test lifecycle.
  * This class contains methods that run before and after each scenario.
- * It handles WebDriver initialization and cleanup.
+ * It handles leasing WebDriver sessions from the pool and returning them.
+ * 
+ * Hooks holds no browser state of its own: each scenario thread reaches its
+ * leased WebDriver through DriverManager, so scenarios can run in parallel.
  */
 public class Hooks {
-
-    /**
-     * Static WebDriver instance shared across all step definitions.
-     * This allows step definitions to access the same browser instance.
-     */
-    public static WebDriver driver;
+    private static final Logger LOGGER = Logger.getLogger(Hooks.class.getName());
 
     /**
      * Setup method that runs before each scenario.
-     * Initializes the WebDriver using the DriverManager singleton.
+     * Leases a WebDriver for the current thread through the DriverManager.
      */
     @Before
     public void setUp() {
-        driver = DriverManager.getDriver();
+        DriverManager.getDriver();
     }
 
     /**
      * Cleanup method that runs after each scenario.
-     * Quits the WebDriver to release browser resources.
+     * Takes a screenshot of a failed scenario and queues it for writing, then returns
+     * the WebDriver to the pool. The screenshot is not attached to the scenario, so the
+     * reports don't inline the full-size image.
+     *
+     * @param scenario The scenario that just finished
      */
     @After
-    public void tearDown() {
-        DriverManager.quitDriver();
+    public void tearDown(Scenario scenario) {
+        WebDriver driver = DriverManager.getCurrentDriver();
+        try {
+            if (scenario.isFailed() && driver instanceof TakesScreenshot) {
+                byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+                TestListener.saveScreenshot(scenario.getName().replaceAll("\\W+", "_"), screenshot);
+            }
+        } catch (WebDriverException e) {
+            LOGGER.severe("Failed to capture screenshot: " + e.getMessage());
+        } finally {
+            DriverManager.releaseDriver();
+        }
     }
-}
\ No newline at end of file
+}
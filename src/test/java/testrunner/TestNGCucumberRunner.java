@@ -2,6 +2,7 @@ package testrunner;
 
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import org.testng.annotations.DataProvider;
 
 /**
  * TestNG Cucumber Runner class that configures and executes Cucumber tests.
@@ -11,6 +12,9 @@ import io.cucumber.testng.CucumberOptions;
  * - Feature file locations
  * - Step definition and hook package locations
  * - Report generation plugins
+ * 
+ * Scenarios are supplied through a parallel data provider. How many run at the same
+ * time is controlled by utils.ParallelExecutionConfigurer (parallel.enabled / parallel.threads).
  */
 @CucumberOptions(
     // Path to feature files containing Gherkin scenarios
@@ -24,8 +28,24 @@ import io.cucumber.testng.CucumberOptions;
         "pretty", // Console output formatting
         "html:target/cucumber-reports.html", // HTML report generation
         "com.aventstack.extentreports.cucumber.adapter.ExtentCucumberAdapter:", // Extent Reports integration
+        "utils.StepLatencyPlugin", // Step latencies and latency export (metrics.enabled)
+        "utils.StreamingReportPlugin", // Incremental event log and report, after Extent so its marker comes last
         "json:target/cucumber-reports/cucumber.json",
         "rerun:target/failed_scenarios.txt"
     }
 )
-public class TestNGCucumberRunner extends AbstractTestNGCucumberTests {}
\ No newline at end of file
+public class TestNGCucumberRunner extends AbstractTestNGCucumberTests {
+
+    /**
+     * Supplies the scenarios to TestNG as a parallel data provider.
+     * With parallel execution disabled the data provider thread count is 1,
+     * so scenarios still run one after another.
+     * 
+     * @return Scenarios to run, one row per pickle
+     */
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return super.scenarios();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package utils;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * TestNG listener that applies the API parallel execution settings before a suite starts.
+ * When enabled, API test methods run in parallel on the suite's thread pool; this is safe
+ * because API clients keep their request specifications to themselves instead of in
+ * RestAssured's global state. Methods run one at a time by default.
+ * 
+ * Configuration (config.properties or system properties):
+ * api.parallel.enabled=false
+ * api.parallel.threads=4
+ * 
+ * Usage example:
+ * mvn test -DsuiteXmlFile=testng-api.xml -Dapi.parallel.enabled=true -Dapi.parallel.threads=8
+ */
+public class ApiParallelExecutionConfigurer implements IAlterSuiteListener {
+    private static final Logger LOGGER = Logger.getLogger(ApiParallelExecutionConfigurer.class.getName());
+    private static final int DEFAULT_THREADS = 4;
+
+    /**
+     * Sets parallel mode and thread count on every suite from the API parallel settings.
+     * 
+     * @param suites The suites about to run
+     */
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        boolean enabled = ConfigProperties.getBooleanProperty("api.parallel.enabled", false);
+        int threads = Math.max(1, ConfigProperties.getIntProperty("api.parallel.threads", DEFAULT_THREADS));
+
+        for (XmlSuite suite : suites) {
+            if (enabled) {
+                suite.setParallel(XmlSuite.ParallelMode.METHODS);
+                suite.setThreadCount(threads);
+                LOGGER.info("Suite '" + suite.getName() + "' runs test methods on " + threads + " thread(s)");
+            } else {
+                suite.setParallel(XmlSuite.ParallelMode.NONE);
+                LOGGER.info("Suite '" + suite.getName() + "' runs test methods sequentially");
+            }
+        }
+    }
+}
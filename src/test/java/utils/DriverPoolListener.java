@@ -0,0 +1,36 @@
+package utils;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.util.logging.Logger;
+
+/**
+ * TestNG suite listener that manages the browser pool around a suite run.
+ * It starts warming up browsers in the background as soon as the suite starts
+ * (see driver.pool.warmup) and quits every pooled browser when the suite finishes.
+ */
+public class DriverPoolListener implements ISuiteListener {
+    private static final Logger LOGGER = Logger.getLogger(DriverPoolListener.class.getName());
+
+    /**
+     * Starts the background browser warm-up.
+     * 
+     * @param suite The suite about to run
+     */
+    @Override
+    public void onStart(ISuite suite) {
+        LOGGER.info("Warming up browser pool for suite: " + suite.getName());
+        DriverPool.getInstance().warmUp();
+    }
+
+    /**
+     * Quits every pooled browser once the suite is done with them.
+     * 
+     * @param suite The suite that finished
+     */
+    @Override
+    public void onFinish(ISuite suite) {
+        DriverManager.quitAll();
+    }
+}
@@ -0,0 +1,51 @@
+package utils;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * TestNG listener that applies the parallel execution settings before a suite starts.
+ * Cucumber scenarios are fed through a parallel data provider, so the number of scenarios
+ * running at the same time is the suite's data provider thread count.
+ * 
+ * Configuration (config.properties or system properties):
+ * parallel.enabled=true
+ * parallel.threads=4
+ * 
+ * Usage example:
+ * mvn test -Dparallel.enabled=true -Dparallel.threads=8
+ */
+public class ParallelExecutionConfigurer implements IAlterSuiteListener {
+    private static final Logger LOGGER = Logger.getLogger(ParallelExecutionConfigurer.class.getName());
+    private static final int DEFAULT_THREADS = 4;
+
+    /**
+     * Sets the data provider thread count on every suite from the parallel settings.
+     * 
+     * @param suites The suites about to run
+     */
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        boolean enabled = ConfigProperties.getBooleanProperty("parallel.enabled", false);
+        int threads = getThreads();
+        int effectiveThreads = enabled ? threads : 1;
+
+        for (XmlSuite suite : suites) {
+            suite.setDataProviderThreadCount(effectiveThreads);
+            LOGGER.info("Suite '" + suite.getName() + "' runs scenarios on "
+                + effectiveThreads + " thread(s)");
+        }
+    }
+
+    /**
+     * Get the configured thread count.
+     * 
+     * @return Number of threads to use in parallel mode
+     */
+    private static int getThreads() {
+        return Math.max(1, ConfigProperties.getIntProperty("parallel.threads", DEFAULT_THREADS));
+    }
+}
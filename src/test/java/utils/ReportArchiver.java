@@ -0,0 +1,175 @@
+package utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Archives finished report files without copying their bytes where possible.
+ *
+ * Archive modes:
+ * - copy: full byte copy (works everywhere)
+ * - link: hard link into the archive directory, so the archive costs no extra space
+ * - move: atomic rename into the archive directory
+ * Links and renames fall back to a copy when the file system doesn't support them,
+ * e.g. when the archive directory is on another device.
+ *
+ * Archive directories can also be zipped on a background thread. A shutdown hook
+ * waits for pending archives, so they are not cut off when the JVM exits.
+ */
+public class ReportArchiver {
+    private static final Logger LOGGER = Logger.getLogger(ReportArchiver.class.getName());
+
+    /**
+     * How report files are placed into the archive directory.
+     */
+    public enum Mode {
+        COPY, LINK, MOVE;
+
+        /**
+         * Parse a mode name, case-insensitively.
+         *
+         * @param name Mode name (copy, link or move)
+         * @return The matching mode
+         */
+        public static Mode fromString(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported report.archive.mode: " + name
+                    + " (expected copy, link or move)", e);
+            }
+        }
+    }
+
+    // Background compression; a single thread keeps disk I/O sequential
+    private static final ExecutorService COMPRESSOR = ExecutorFactory.newFixedExecutor("report-compressor", 1);
+
+    private static final long DEFAULT_COMPRESS_TIMEOUT = 120;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ReportArchiver::awaitCompression, "report-compressor-shutdown"));
+    }
+
+    /**
+     * Place a file into the archive directory.
+     *
+     * @param source File to archive
+     * @param target Path of the file in the archive
+     * @param mode Archive mode
+     * @throws IOException if the file cannot be archived
+     */
+    public static void archive(Path source, Path target, Mode mode) throws IOException {
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        switch (mode) {
+            case LINK:
+                try {
+                    Files.createLink(target, source);
+                    return;
+                } catch (UnsupportedOperationException | FileSystemException e) {
+                    LOGGER.fine("Hard link not possible for " + source + ", copying instead: " + e.getMessage());
+                }
+                break;
+            case MOVE:
+                try {
+                    Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileSystemException e) {
+                    Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+                return;
+            default:
+                break;
+        }
+        Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Archive every file of a directory, keeping their relative paths.
+     *
+     * @param sourceDir Directory to archive
+     * @param targetDir Directory in the archive
+     * @param mode Archive mode
+     * @throws IOException if a file cannot be archived
+     */
+    public static void archiveDirectory(Path sourceDir, Path targetDir, Mode mode) throws IOException {
+        if (!Files.isDirectory(sourceDir)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(sourceDir)) {
+            files = walk.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            archive(file, targetDir.resolve(sourceDir.relativize(file).toString()), mode);
+        }
+    }
+
+    /**
+     * Zip an archive directory on the background thread.
+     * The zip file is written next to the directory and appears under its final name only when complete.
+     *
+     * @param directory Archive directory to compress
+     */
+    public static void compressAsync(Path directory) {
+        COMPRESSOR.execute(() -> {
+            Path zip = directory.resolveSibling(directory.getFileName() + ".zip");
+            Path temp = directory.resolveSibling(directory.getFileName() + ".zip.tmp");
+            try {
+                zip(directory, temp);
+                Files.move(temp, zip, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                LOGGER.info("Compressed report archive: " + zip);
+            } catch (IOException e) {
+                LOGGER.severe("Failed to compress report archive " + directory + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Wait for pending background compression to finish, up to report.archive.compressTimeout seconds.
+     */
+    public static void awaitCompression() {
+        COMPRESSOR.shutdown();
+        try {
+            long timeout = ConfigProperties.getIntProperty("report.archive.compressTimeout",
+                (int) DEFAULT_COMPRESS_TIMEOUT);
+            if (!COMPRESSOR.awaitTermination(timeout, TimeUnit.SECONDS)) {
+                LOGGER.warning("Report compression did not finish within " + timeout + "s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Write every file of a directory to a zip file.
+     *
+     * @param directory Directory to compress
+     * @param zipFile Zip file to write
+     * @throws IOException if reading or writing fails
+     */
+    private static void zip(Path directory, Path zipFile) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        try (OutputStream out = Files.newOutputStream(zipFile);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Path file : files) {
+                zip.putNextEntry(new ZipEntry(directory.relativize(file).toString().replace('\\', '/')));
+                Files.copy(file, zip);
+                zip.closeEntry();
+            }
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package utils;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+
+/**
+ * Writes screenshots to disk on background threads so failing tests don't wait for
+ * image encoding and file I/O.
+ *
+ * The writer:
+ * - Accepts raw PNG bytes as captured by WebDriver
+ * - Optionally re-encodes them as JPEG with a configurable quality
+ * - Scales images down to a maximum width and, for JPEG, shrinks them towards a size cap
+ * - Uses a bounded queue; when it is full the capturing thread encodes the image itself,
+ *   which slows down mass failures instead of piling up screenshots in memory
+ *
+ * Configuration (config.properties or system properties):
+ * screenshot.format=jpg
+ * screenshot.quality=0.8
+ * screenshot.maxWidth=1600
+ * screenshot.maxBytes=524288 (JPEG only)
+ * screenshot.queue.capacity=16
+ * screenshot.writer.threads=2
+ */
+public class ScreenshotWriter {
+    private static final Logger LOGGER = Logger.getLogger(ScreenshotWriter.class.getName());
+
+    // Default writer settings
+    private static final String DEFAULT_FORMAT = "png";
+    private static final float DEFAULT_QUALITY = 0.8f;
+    private static final int DEFAULT_MAX_WIDTH = 0; // 0 means no limit
+    private static final int DEFAULT_MAX_BYTES = 0; // 0 means no limit
+    private static final int DEFAULT_QUEUE_CAPACITY = 16;
+    private static final int DEFAULT_THREADS = 2;
+    private static final float MIN_QUALITY = 0.3f;
+    private static final float QUALITY_STEP = 0.15f;
+
+    private static final ScreenshotWriter INSTANCE = new ScreenshotWriter();
+
+    private final String format;
+    private final float quality;
+    private final int maxWidth;
+    private final int maxBytes;
+    private final ThreadPoolExecutor executor;
+
+    // Writes that have not finished yet
+    private final Set<CompletableFuture<Path>> pending = ConcurrentHashMap.newKeySet();
+
+    private ScreenshotWriter() {
+        this.format = getFormatSetting();
+        this.quality = Math.min(1f, Math.max(MIN_QUALITY, getQualitySetting()));
+        this.maxWidth = ConfigProperties.getIntProperty("screenshot.maxWidth", DEFAULT_MAX_WIDTH);
+        this.maxBytes = ConfigProperties.getIntProperty("screenshot.maxBytes", DEFAULT_MAX_BYTES);
+        int capacity = ConfigProperties.getIntProperty("screenshot.queue.capacity", DEFAULT_QUEUE_CAPACITY);
+        int threads = Math.max(1, ConfigProperties.getIntProperty("screenshot.writer.threads", DEFAULT_THREADS));
+
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, capacity)),
+            ExecutorFactory.threadFactory("screenshot-writer"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Gets the shared writer instance.
+     *
+     * @return The ScreenshotWriter
+     */
+    public static ScreenshotWriter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Queue a screenshot for writing.
+     *
+     * @param directory Directory to write the screenshot to
+     * @param baseName File name without extension
+     * @param png Screenshot as captured by WebDriver (PNG)
+     * @return Future completing with the written file
+     */
+    public CompletableFuture<Path> write(Path directory, String baseName, byte[] png) {
+        CompletableFuture<Path> future = CompletableFuture.supplyAsync(() -> {
+            try {
+                byte[] image = encode(png);
+                // The screenshot stays a PNG when it could not be encoded in the configured format
+                Path destination = directory.resolve(baseName + "." + (image == png ? "png" : format));
+                Files.write(destination, image);
+                LOGGER.info("Screenshot saved to: " + destination);
+                return destination;
+            } catch (IOException e) {
+                LOGGER.severe("Failed to write screenshot " + baseName + ": " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+        }, executor);
+        pending.add(future);
+        future.whenComplete((path, error) -> pending.remove(future));
+        return future;
+    }
+
+    /**
+     * Wait until every queued screenshot has been written.
+     *
+     * @param timeoutSeconds Maximum time to wait
+     */
+    public void flush(long timeoutSeconds) {
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+                .get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Already logged by the failing write
+        } catch (TimeoutException e) {
+            LOGGER.warning(pending.size() + " screenshot(s) still being written after " + timeoutSeconds + "s");
+        }
+    }
+
+    /**
+     * Convert a PNG screenshot to the configured format, width and size.
+     *
+     * @param png Screenshot as PNG
+     * @return Encoded image
+     * @throws IOException if the image cannot be decoded or encoded
+     */
+    private byte[] encode(byte[] png) throws IOException {
+        if ("png".equals(format) && maxWidth <= 0) {
+            return png;
+        }
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            return png;
+        }
+        if (maxWidth > 0 && image.getWidth() > maxWidth) {
+            image = scale(image, (double) maxWidth / image.getWidth());
+        }
+
+        if (!"jpg".equals(format)) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            // Some writers, such as BMP, reject images with an alpha channel
+            if (!ImageIO.write(image, format, output) && !ImageIO.write(toRgb(image), format, output)) {
+                LOGGER.warning("Cannot encode screenshot as " + format + ", keeping PNG");
+                return png;
+            }
+            return output.toByteArray();
+        }
+
+        // JPEG has no alpha channel
+        BufferedImage rgb = toRgb(image);
+
+        // Lower the quality, then the size, until the image fits under the cap
+        float currentQuality = quality;
+        byte[] jpeg = writeJpeg(rgb, currentQuality);
+        while (maxBytes > 0 && jpeg.length > maxBytes) {
+            if (currentQuality - QUALITY_STEP >= MIN_QUALITY) {
+                currentQuality -= QUALITY_STEP;
+            } else if (rgb.getWidth() > 320) {
+                rgb = scale(rgb, 0.75);
+            } else {
+                break;
+            }
+            jpeg = writeJpeg(rgb, currentQuality);
+        }
+        return jpeg;
+    }
+
+    /**
+     * Encode an image as JPEG.
+     *
+     * @param image RGB image
+     * @param jpegQuality Compression quality between 0 and 1
+     * @return JPEG bytes
+     * @throws IOException if encoding fails
+     */
+    private static byte[] writeJpeg(BufferedImage image, float jpegQuality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Copy an image without its alpha channel.
+     *
+     * @param image Image to copy
+     * @return RGB image
+     */
+    private static BufferedImage toRgb(BufferedImage image) {
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+        return rgb;
+    }
+
+    /**
+     * Scale an image by a factor.
+     *
+     * @param image Image to scale
+     * @param factor Scale factor
+     * @return Scaled image
+     */
+    private static BufferedImage scale(BufferedImage image, double factor) {
+        int width = Math.max(1, (int) (image.getWidth() * factor));
+        int height = Math.max(1, (int) (image.getHeight() * factor));
+        int type = image.getType() == BufferedImage.TYPE_CUSTOM ? BufferedImage.TYPE_INT_ARGB : image.getType();
+        BufferedImage scaled = new BufferedImage(width, height, type);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, width, height, null);
+        graphics.dispose();
+        return scaled;
+    }
+
+    /**
+     * Read the image format, falling back to PNG if ImageIO cannot write it.
+     *
+     * @return Image format name, also used as the file extension
+     */
+    private static String getFormatSetting() {
+        String value = getSetting("screenshot.format", DEFAULT_FORMAT).toLowerCase().replace("jpeg", "jpg");
+        if (!ImageIO.getImageWritersByFormatName(value).hasNext()) {
+            LOGGER.warning("Unsupported screenshot format " + value + ", using " + DEFAULT_FORMAT);
+            return DEFAULT_FORMAT;
+        }
+        return value;
+    }
+
+    /**
+     * Read the JPEG quality.
+     *
+     * @return Quality between 0 and 1 as configured
+     */
+    private static float getQualitySetting() {
+        String value = getSetting("screenshot.quality", String.valueOf(DEFAULT_QUALITY));
+        try {
+            return Float.parseFloat(value);
+        } catch (NumberFormatException e) {
+            LOGGER.warning("Invalid decimal property value for screenshot.quality: " + value);
+            return DEFAULT_QUALITY;
+        }
+    }
+
+    /**
+     * Read a setting from the configuration.
+     *
+     * @param key Property key
+     * @param defaultValue Default value if the property is not set
+     * @return Setting value
+     */
+    private static String getSetting(String key, String defaultValue) {
+        return ConfigProperties.getProperty(key, defaultValue).trim();
+    }
+}
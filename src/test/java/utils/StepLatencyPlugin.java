@@ -0,0 +1,53 @@
+package utils;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+
+import java.nio.file.Paths;
+
+/**
+ * Cucumber plugin that records the latency of every step and exports all latency
+ * metrics when the run finishes.
+ *
+ * Steps are recorded under their step definition pattern, so every use of a step
+ * definition lands in the same histogram. The export (latency.json and latency.csv)
+ * is written to metrics.output.dir, next to the Cucumber JSON report by default.
+ *
+ * Only active with metrics.enabled=true.
+ */
+public class StepLatencyPlugin implements ConcurrentEventListener {
+    private static final String DEFAULT_OUTPUT_DIR = "target/cucumber-reports";
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (!LatencyRecorder.isEnabled()) {
+            return;
+        }
+        publisher.registerHandlerFor(TestStepFinished.class, this::onTestStepFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, this::onTestRunFinished);
+    }
+
+    /**
+     * Record the duration of a finished step.
+     *
+     * @param event Test step finished event
+     */
+    private void onTestStepFinished(TestStepFinished event) {
+        if (event.getTestStep() instanceof PickleStepTestStep) {
+            PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+            LatencyRecorder.record(LatencyRecorder.STEP, step.getPattern(), event.getResult().getDuration().toNanos());
+        }
+    }
+
+    /**
+     * Export the latency metrics of the run.
+     *
+     * @param event Test run finished event
+     */
+    private void onTestRunFinished(TestRunFinished event) {
+        LatencyRecorder.export(Paths.get(ConfigProperties.getProperty("metrics.output.dir", DEFAULT_OUTPUT_DIR)));
+    }
+}
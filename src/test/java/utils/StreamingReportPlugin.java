@@ -0,0 +1,268 @@
+package utils;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestStepFinished;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Cucumber plugin that writes scenario results to disk as they finish.
+ *
+ * Each finished scenario is appended to an event log (one JSON object per line) and
+ * flushed immediately, so only scenarios that are still running are held in memory.
+ * The HTML report is rendered from the log by StreamingReportRenderer: at the end of
+ * the run, every report.render.interval scenarios, or on demand while the run is going.
+ *
+ * When the run is finished and the report is rendered, a completion marker is written.
+ * TimeStampedReportCopier waits for that marker instead of guessing with a sleep.
+ *
+ * Configuration (config.properties or system properties):
+ * report.events.file=target/SparkReport/events.jsonl
+ * report.html.file=target/SparkReport/StreamingReport.html
+ * report.complete.marker=target/SparkReport/report.complete
+ * report.render.interval=0
+ */
+public class StreamingReportPlugin implements ConcurrentEventListener {
+    private static final Logger LOGGER = Logger.getLogger(StreamingReportPlugin.class.getName());
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // Default report locations
+    private static final String DEFAULT_EVENTS_FILE = "target/SparkReport/events.jsonl";
+    private static final String DEFAULT_HTML_FILE = "target/SparkReport/StreamingReport.html";
+    private static final String DEFAULT_COMPLETE_MARKER = "target/SparkReport/report.complete";
+
+    private final Path eventsFile;
+    private final Path htmlFile;
+    private final Path completeMarker;
+    private final int renderInterval;
+
+    // Steps of scenarios that are still running
+    private final Map<UUID, List<StepResult>> runningSteps = new ConcurrentHashMap<>();
+    private final AtomicInteger finished = new AtomicInteger();
+    private OutputStream events;
+
+    /**
+     * Constructor for StreamingReportPlugin, called by Cucumber.
+     */
+    public StreamingReportPlugin() {
+        this.eventsFile = Paths.get(getSetting("report.events.file", DEFAULT_EVENTS_FILE));
+        this.htmlFile = Paths.get(getSetting("report.html.file", DEFAULT_HTML_FILE));
+        this.completeMarker = getCompleteMarker();
+        this.renderInterval = ConfigProperties.getIntProperty("report.render.interval", 0);
+    }
+
+    /**
+     * Gets the completion marker file written when the report is complete.
+     *
+     * @return Path of the marker file
+     */
+    public static Path getCompleteMarker() {
+        return Paths.get(getSetting("report.complete.marker", DEFAULT_COMPLETE_MARKER));
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, this::onTestRunStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onTestStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, this::onTestRunFinished);
+    }
+
+    /**
+     * Start a new event log and remove the marker of a previous run.
+     *
+     * @param event Test run started event
+     */
+    private synchronized void onTestRunStarted(TestRunStarted event) {
+        try {
+            Files.deleteIfExists(completeMarker);
+            Files.createDirectories(eventsFile.toAbsolutePath().getParent());
+            // Start a new file rather than truncating, the old one may be hard-linked into an archive
+            Files.deleteIfExists(eventsFile);
+            events = Files.newOutputStream(eventsFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create report event log " + eventsFile + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Remember the result of a step until its scenario finishes.
+     *
+     * @param event Test step finished event
+     */
+    private void onTestStepFinished(TestStepFinished event) {
+        Result result = event.getResult();
+        String text;
+        if (event.getTestStep() instanceof PickleStepTestStep) {
+            PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+            text = step.getStep().getKeyword() + step.getStep().getText();
+        } else if (result.getStatus() == Status.FAILED) {
+            // Only failing hooks are worth reporting
+            text = "Hook: " + event.getTestStep().getCodeLocation();
+        } else {
+            return;
+        }
+        runningSteps.computeIfAbsent(event.getTestCase().getId(), id -> new CopyOnWriteArrayList<>())
+            .add(new StepResult(text, result));
+    }
+
+    /**
+     * Append the finished scenario to the event log.
+     *
+     * @param event Test case finished event
+     */
+    private void onTestCaseFinished(TestCaseFinished event) {
+        TestCase testCase = event.getTestCase();
+        List<StepResult> steps = runningSteps.remove(testCase.getId());
+        Result result = event.getResult();
+
+        // Serialize outside the lock; only the append is synchronized
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(line, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeStringField("id", testCase.getId().toString());
+            json.writeStringField("name", testCase.getName());
+            json.writeStringField("uri", testCase.getUri().toString());
+            json.writeNumberField("line", testCase.getLocation().getLine());
+            json.writeStringField("status", result.getStatus().name());
+            json.writeNumberField("durationMillis", result.getDuration().toMillis());
+            json.writeStringField("finishedAt", event.getInstant().toString());
+            json.writeStringField("thread", Thread.currentThread().getName());
+            json.writeArrayFieldStart("tags");
+            for (String tag : testCase.getTags()) {
+                json.writeString(tag);
+            }
+            json.writeEndArray();
+            if (result.getError() != null) {
+                json.writeStringField("error", String.valueOf(result.getError()));
+            }
+            json.writeArrayFieldStart("steps");
+            if (steps != null) {
+                for (StepResult step : steps) {
+                    json.writeStartObject();
+                    json.writeStringField("text", step.text);
+                    json.writeStringField("status", step.result.getStatus().name());
+                    json.writeNumberField("durationMillis", step.result.getDuration().toMillis());
+                    if (step.result.getError() != null) {
+                        json.writeStringField("error", String.valueOf(step.result.getError()));
+                    }
+                    json.writeEndObject();
+                }
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        } catch (IOException e) {
+            LOGGER.severe("Failed to serialize result of " + testCase.getName() + ": " + e.getMessage());
+            return;
+        }
+        line.write('\n');
+        append(line.toByteArray());
+
+        int count = finished.incrementAndGet();
+        if (renderInterval > 0 && count % renderInterval == 0) {
+            render();
+        }
+    }
+
+    /**
+     * Render the final report and write the completion marker.
+     *
+     * @param event Test run finished event
+     */
+    private synchronized void onTestRunFinished(TestRunFinished event) {
+        try {
+            if (events != null) {
+                events.close();
+                events = null;
+            }
+            render();
+            Path temp = completeMarker.resolveSibling(completeMarker.getFileName() + ".tmp");
+            Files.write(temp, (Instant.now() + " " + finished.get() + " scenarios\n").getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, completeMarker, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.info("Report complete: " + htmlFile);
+        } catch (IOException e) {
+            LOGGER.severe("Failed to complete report: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Append one line to the event log and flush it.
+     *
+     * @param line Serialized event including the trailing newline
+     */
+    private synchronized void append(byte[] line) {
+        if (events == null) {
+            LOGGER.warning("Report event log is not open, dropping result");
+            return;
+        }
+        try {
+            events.write(line);
+            events.flush();
+        } catch (IOException e) {
+            LOGGER.severe("Failed to append to report event log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Render the HTML report from the current event log.
+     */
+    private void render() {
+        try {
+            StreamingReportRenderer.render(eventsFile, htmlFile);
+        } catch (IOException e) {
+            LOGGER.severe("Failed to render report " + htmlFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read a setting from the configuration.
+     *
+     * @param key Property key
+     * @param defaultValue Default value if the property is not set
+     * @return Setting value
+     */
+    private static String getSetting(String key, String defaultValue) {
+        return ConfigProperties.getProperty(key, defaultValue).trim();
+    }
+
+    /**
+     * Text and result of a finished step.
+     */
+    private static class StepResult {
+        private final String text;
+        private final Result result;
+
+        StepResult(String text, Result result) {
+            this.text = text;
+            this.result = result;
+        }
+    }
+}
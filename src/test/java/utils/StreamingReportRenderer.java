@@ -0,0 +1,172 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Renders the HTML report from the event log written by StreamingReportPlugin.
+ *
+ * The log is read one line at a time (once for the summary, once for the details),
+ * so memory use does not grow with the number of scenarios. A line that is still
+ * being written is skipped, which makes it safe to render while tests are running.
+ *
+ * Usage while a run is in progress:
+ * java -cp target/test-classes:... utils.StreamingReportRenderer target/SparkReport/events.jsonl report.html
+ */
+public class StreamingReportRenderer {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Render a report from the command line.
+     *
+     * @param args Event log path and HTML output path
+     * @throws IOException if the log cannot be read or the report cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: StreamingReportRenderer <events.jsonl> <report.html>");
+            System.exit(1);
+        }
+        render(Paths.get(args[0]), Paths.get(args[1]));
+    }
+
+    /**
+     * Render the event log to an HTML file.
+     * The file is replaced atomically, so readers never see a partial report.
+     *
+     * @param eventsFile Event log to read
+     * @param htmlFile HTML report to write
+     * @throws IOException if the log cannot be read or the report cannot be written
+     */
+    public static synchronized void render(Path eventsFile, Path htmlFile) throws IOException {
+        if (!Files.exists(eventsFile)) {
+            return;
+        }
+
+        // First pass: summary counts
+        Map<String, Integer> counts = new TreeMap<>();
+        long[] totalMillis = {0};
+        forEachEvent(eventsFile, event -> {
+            counts.merge(event.path("status").asText("UNKNOWN"), 1, Integer::sum);
+            totalMillis[0] += event.path("durationMillis").asLong();
+        });
+        int total = counts.values().stream().mapToInt(Integer::intValue).sum();
+
+        Files.createDirectories(htmlFile.toAbsolutePath().getParent());
+        Path temp = htmlFile.resolveSibling(htmlFile.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            out.write("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>Test Report</title>\n");
+            out.write("<style>body{font-family:sans-serif;margin:2em}table{border-collapse:collapse;width:100%}"
+                + "td,th{border:1px solid #ddd;padding:4px 8px;text-align:left;vertical-align:top}"
+                + ".PASSED{color:#2e7d32}.FAILED{color:#c62828}.SKIPPED,.PENDING,.UNDEFINED{color:#ef6c00}"
+                + "pre{white-space:pre-wrap;margin:0}</style></head><body>\n");
+            out.write("<h1>Test Report</h1>\n<p>" + total + " scenarios, "
+                + String.format("%.1f", totalMillis[0] / 1000.0) + "s total");
+            for (Map.Entry<String, Integer> count : counts.entrySet()) {
+                out.write(", <span class=\"" + escape(count.getKey()) + "\">" + count.getValue() + " "
+                    + escape(count.getKey().toLowerCase()) + "</span>");
+            }
+            out.write("</p>\n<table><tr><th>Scenario</th><th>Status</th><th>Duration</th><th>Steps</th></tr>\n");
+
+            // Second pass: one row per scenario, written straight to the output
+            forEachEvent(eventsFile, event -> writeRow(out, event));
+
+            out.write("</table>\n</body></html>\n");
+        }
+        Files.move(temp, htmlFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Write the table row of one scenario.
+     *
+     * @param out Report writer
+     * @param event Scenario event
+     */
+    private static void writeRow(Writer out, JsonNode event) {
+        try {
+            String status = event.path("status").asText();
+            out.write("<tr><td>" + escape(event.path("name").asText()) + "<br><small>"
+                + escape(event.path("uri").asText()) + ":" + event.path("line").asInt() + "</small></td>");
+            out.write("<td class=\"" + escape(status) + "\">" + escape(status) + "</td>");
+            out.write("<td>" + event.path("durationMillis").asLong() + " ms</td><td>");
+            for (JsonNode step : event.path("steps")) {
+                String stepStatus = step.path("status").asText();
+                out.write("<div class=\"" + escape(stepStatus) + "\">" + escape(step.path("text").asText())
+                    + " (" + step.path("durationMillis").asLong() + " ms)</div>");
+                if (step.has("error")) {
+                    out.write("<pre>" + escape(step.path("error").asText()) + "</pre>");
+                }
+            }
+            out.write("</td></tr>\n");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Read the event log line by line, skipping lines that are not complete JSON objects.
+     *
+     * @param eventsFile Event log
+     * @param consumer Called for each event
+     * @throws IOException if the log cannot be read
+     */
+    private static void forEachEvent(Path eventsFile, Consumer<JsonNode> consumer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(eventsFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                JsonNode event;
+                try {
+                    event = MAPPER.readTree(line);
+                } catch (IOException e) {
+                    // Line still being written
+                    continue;
+                }
+                if (!event.isObject()) {
+                    continue;
+                }
+                consumer.accept(event);
+            }
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Escape text for HTML.
+     *
+     * @param text Text to escape
+     * @return Escaped text
+     */
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '<': escaped.append("&lt;"); break;
+                case '>': escaped.append("&gt;"); break;
+                case '&': escaped.append("&amp;"); break;
+                case '"': escaped.append("&quot;"); break;
+                default: escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
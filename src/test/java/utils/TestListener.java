@@ -3,19 +3,17 @@ package utils;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 import org.testng.ITestContext;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
-import hooks.Hooks;
 
 /**
  * TestNG Listener for capturing screenshots on test failures and other test lifecycle events.
@@ -24,6 +22,12 @@ import hooks.Hooks;
 public class TestListener implements ITestListener {
     private static final Logger LOGGER = Logger.getLogger(TestListener.class.getName());
     private static final String SCREENSHOTS_DIR = "target/SparkReport/screenshots/";
+    
+    // Keeps screenshot names unique when parallel scenarios fail within the same second
+    private static final AtomicInteger SCREENSHOT_COUNTER = new AtomicInteger();
+
+    // Seconds to wait for pending screenshots when the suite finishes
+    private static final long SCREENSHOT_FLUSH_TIMEOUT = 30;
 
     static {
         // Create the screenshots directory if it doesn't exist
@@ -38,33 +42,38 @@ public class TestListener implements ITestListener {
     @Override
     public void onTestFailure(ITestResult result) {
         LOGGER.info("Test failed: " + result.getName() + " - Taking screenshot");
-        WebDriver driver = Hooks.driver;
+        WebDriver driver = DriverManager.getCurrentDriver();
         
         if (driver == null) {
-            LOGGER.warning("WebDriver is null, cannot take screenshot");
+            // Cucumber scenarios are screenshotted and released by Hooks before this runs
+            LOGGER.info("No WebDriver leased, no screenshot to take");
             return;
         }
         
         try {
-            // Take screenshot
-            File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-            
-            // Generate unique filename
-            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-            String filename = result.getTestClass().getName() + "_" + 
-                              result.getName() + "_" + 
-                              timestamp + ".png";
-            
-            // Save the screenshot
-            Path destination = Paths.get(SCREENSHOTS_DIR + filename);
-            Files.copy(screenshot.toPath(), destination);
-            
-            LOGGER.info("Screenshot saved to: " + destination.toString());
-        } catch (IOException e) {
+            // Capture in memory; encoding and writing happen on the screenshot writer threads
+            byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            saveScreenshot(result.getTestClass().getName() + "_" + result.getName(), screenshot);
+        } catch (WebDriverException e) {
             LOGGER.severe("Failed to capture screenshot: " + e.getMessage());
+        } finally {
+            DriverManager.releaseDriver();
         }
     }
 
+    /**
+     * Queue a failure screenshot for writing to the screenshots directory.
+     *
+     * @param name Name of the failed test; a timestamp is added to make it unique
+     * @param screenshot Screenshot as captured by WebDriver (PNG)
+     */
+    public static void saveScreenshot(String name, byte[] screenshot) {
+        // Generate unique filename
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        String filename = name + "_" + timestamp + "_" + SCREENSHOT_COUNTER.incrementAndGet();
+        ScreenshotWriter.getInstance().write(Paths.get(SCREENSHOTS_DIR), filename, screenshot);
+    }
+
     @Override
     public void onTestStart(ITestResult result) {
         LOGGER.info("Starting test: " + result.getName());
@@ -73,11 +82,13 @@ public class TestListener implements ITestListener {
     @Override
     public void onTestSuccess(ITestResult result) {
         LOGGER.info("Test passed: " + result.getName());
+        DriverManager.releaseDriver();
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
         LOGGER.info("Test skipped: " + result.getName());
+        DriverManager.releaseDriver();
     }
 
     @Override
@@ -91,6 +102,9 @@ public class TestListener implements ITestListener {
         LOGGER.info("Passed tests: " + context.getPassedTests().size());
         LOGGER.info("Failed tests: " + context.getFailedTests().size());
         LOGGER.info("Skipped tests: " + context.getSkippedTests().size());
+        // Make sure every failure screenshot is on disk before the report is copied
+        ScreenshotWriter.getInstance().flush(SCREENSHOT_FLUSH_TIMEOUT);
+        WaitEngine.logStatistics();
     }
 
     @Override
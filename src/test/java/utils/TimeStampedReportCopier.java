@@ -10,44 +10,233 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
- * TestNG Listener that copies the Extent Report file to a timestamped version after test execution.
+ * TestNG Listener that archives the report files to timestamped versions after test execution.
  * This ensures that each test run produces a unique report file.
+ *
+ * The archive waits for the completion marker written by StreamingReportPlugin, so it
+ * never picks up a report that is still being written.
+ *
+ * Archive modes (report.archive.mode):
+ * - copy: copy the reports next to themselves with a timestamp in the name
+ * - link: hard link the reports, event log and screenshots into report.archive.dir/[timestamp]
+ * - move: move them there with an atomic rename
+ * With report.archive.compress=zip the archive directory is also zipped in the background.
  */
 public class TimeStampedReportCopier implements ITestListener {
     private static final Logger LOGGER = Logger.getLogger(TimeStampedReportCopier.class.getName());
     private static final String REPORT_FILE = "target/SparkReport/TestReport.html";
+    private static final String SCREENSHOTS_DIR = "target/SparkReport/screenshots";
     private static final String TIMESTAMP_FORMAT = "yyyy-MM-dd_HH-mm-ss";
 
+    // How long to wait for the completion marker
+    private static final long DEFAULT_COMPLETE_TIMEOUT = 30;
+    private static final long MARKER_POLL_MILLIS = 100;
+
+    // Seconds to wait for pending screenshots before archiving
+    private static final long SCREENSHOT_FLUSH_TIMEOUT = 30;
+
+    private volatile long startedAt = System.currentTimeMillis();
+
+    /**
+     * Records the start of the run. In link mode, report files still linked into the
+     * previous archive are detached first, so this run doesn't overwrite the archived copy.
+     *
+     * @param context The TestNG test context
+     */
+    @Override
+    public void onStart(ITestContext context) {
+        startedAt = context.getStartDate().getTime();
+        if (getMode() == ReportArchiver.Mode.LINK) {
+            try {
+                Path lastArchive = getLastArchive();
+                for (Path file : getReportFiles()) {
+                    detachIfLinked(file, lastArchive != null ? lastArchive.resolve(file.getFileName()) : null);
+                }
+                Path screenshotsDir = Paths.get(SCREENSHOTS_DIR);
+                if (Files.isDirectory(screenshotsDir)) {
+                    try (Stream<Path> screenshots = Files.list(screenshotsDir)) {
+                        for (Path screenshot : screenshots.collect(Collectors.toList())) {
+                            detachIfLinked(screenshot, lastArchive != null
+                                ? lastArchive.resolve(screenshotsDir.getFileName()).resolve(screenshot.getFileName())
+                                : null);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warning("Could not detach archived report files: " + e.getMessage());
+            }
+        }
+    }
+
     /**
-     * After all tests have completed, copies the standard report file to a timestamped version.
-     * 
+     * After all tests have completed, archives the report files to timestamped versions.
+     *
      * @param context The TestNG test context
      */
     @Override
     public void onFinish(ITestContext context) {
+        String timestamp = new SimpleDateFormat(TIMESTAMP_FORMAT).format(new Date());
         try {
-            String timestamp = new SimpleDateFormat(TIMESTAMP_FORMAT).format(new Date());
-            String newFileName = REPORT_FILE.replace(".html", "_" + timestamp + ".html");
-            
-            Path source = Paths.get(REPORT_FILE);
-            Path destination = Paths.get(newFileName);
-            
-            // Wait a bit to ensure the report file is completely written
-            Thread.sleep(1000);
-            
-            // Only copy if the original file exists
-            if (Files.exists(source)) {
-                Files.copy(source, destination, StandardCopyOption.REPLACE_EXISTING);
-                LOGGER.info("Successfully copied report to timestamped file: " + newFileName);
+            if (!awaitCompletion()) {
+                LOGGER.warning("Report completion marker not found, archiving reports as they are");
+            }
+            ScreenshotWriter.getInstance().flush(SCREENSHOT_FLUSH_TIMEOUT);
+
+            ReportArchiver.Mode mode = getMode();
+            if (mode == ReportArchiver.Mode.COPY) {
+                for (Path report : getReportFiles()) {
+                    if (report.toString().endsWith(".html")) {
+                        copy(report, timestamp);
+                    }
+                }
             } else {
-                LOGGER.warning("Could not find report file to copy: " + REPORT_FILE);
+                archive(Paths.get(ConfigProperties.getProperty("report.archive.dir", "target/SparkReport/archive"))
+                    .resolve(timestamp), mode);
+            }
+        } catch (IOException e) {
+            LOGGER.severe("Error archiving report files: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Link or move the reports, event log and screenshots into a timestamped directory.
+     *
+     * @param archiveDir Timestamped archive directory
+     * @param mode LINK or MOVE
+     * @throws IOException if a file cannot be archived
+     */
+    private void archive(Path archiveDir, ReportArchiver.Mode mode) throws IOException {
+        for (Path file : getReportFiles()) {
+            if (Files.exists(file)) {
+                ReportArchiver.archive(file, archiveDir.resolve(file.getFileName()), mode);
+            } else {
+                LOGGER.warning("Could not find report file to archive: " + file);
+            }
+        }
+        Path screenshots = Paths.get(SCREENSHOTS_DIR);
+        ReportArchiver.archiveDirectory(screenshots, archiveDir.resolve(screenshots.getFileName()), mode);
+        LOGGER.info("Archived reports to: " + archiveDir);
+
+        if ("zip".equalsIgnoreCase(ConfigProperties.getProperty("report.archive.compress", "none").trim())) {
+            ReportArchiver.compressAsync(archiveDir);
+        }
+    }
+
+    /**
+     * Wait until the completion marker of this run exists.
+     *
+     * @return true if the marker was written, false if the wait timed out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private boolean awaitCompletion() throws InterruptedException {
+        Path marker = StreamingReportPlugin.getCompleteMarker();
+        long timeout = ConfigProperties.getIntProperty("report.complete.timeout", (int) DEFAULT_COMPLETE_TIMEOUT);
+        long deadline = System.currentTimeMillis() + timeout * 1000;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                // A marker left over from an earlier run doesn't count
+                if (Files.exists(marker) && Files.getLastModifiedTime(marker).toMillis() >= startedAt - 1000) {
+                    return true;
+                }
+            } catch (IOException e) {
+                // Marker replaced while reading it, check again
             }
-        } catch (IOException | InterruptedException e) {
-            LOGGER.severe("Error copying report file: " + e.getMessage());
+            Thread.sleep(MARKER_POLL_MILLIS);
+        }
+        return false;
+    }
+
+    /**
+     * Get the report files produced by a run: both HTML reports and the event log.
+     *
+     * @return Report file paths
+     */
+    private static List<Path> getReportFiles() {
+        return Arrays.asList(
+            Paths.get(REPORT_FILE),
+            Paths.get(ConfigProperties.getProperty("report.html.file", "target/SparkReport/StreamingReport.html")),
+            Paths.get(ConfigProperties.getProperty("report.events.file", "target/SparkReport/events.jsonl")));
+    }
+
+    /**
+     * Get the configured archive mode.
+     *
+     * @return The archive mode
+     */
+    private static ReportArchiver.Mode getMode() {
+        return ReportArchiver.Mode.fromString(
+            ConfigProperties.getProperty("report.archive.mode", "copy"));
+    }
+
+    /**
+     * Find the most recent archive directory. Every file linked by an earlier run is
+     * also linked into this one, because each link-mode run links all current files.
+     *
+     * @return Latest timestamped archive directory, or null if there is none
+     * @throws IOException if the archive directory cannot be listed
+     */
+    private static Path getLastArchive() throws IOException {
+        Path archiveRoot = Paths.get(ConfigProperties.getProperty("report.archive.dir", "target/SparkReport/archive"));
+        if (!Files.isDirectory(archiveRoot)) {
+            return null;
+        }
+        // Timestamps are formatted so that names sort chronologically
+        try (Stream<Path> archives = Files.list(archiveRoot)) {
+            return archives.filter(Files::isDirectory).max(Path::compareTo).orElse(null);
+        }
+    }
+
+    /**
+     * Remove a file that is also hard-linked into an earlier archive, leaving the archived
+     * link intact, so this run's writes don't change the archived copy. Files that are not
+     * linked are left alone.
+     *
+     * @param file File to detach
+     * @param archived Where the last archive would hold the file, or null if there is no archive
+     * @throws IOException if the file cannot be removed
+     */
+    private static void detachIfLinked(Path file, Path archived) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        boolean linked;
+        if (Files.getFileStore(file).supportsFileAttributeView("unix")) {
+            Object links = Files.getAttribute(file, "unix:nlink");
+            linked = links instanceof Integer && (Integer) links > 1;
+        } else {
+            // No link count (e.g. Windows): compare file identities with the archived file
+            linked = archived != null && Files.exists(archived) && Files.isSameFile(file, archived);
+        }
+        if (linked) {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Copy a report file next to itself with a timestamp in the name.
+     *
+     * @param source Report file
+     * @param timestamp Timestamp to add to the name
+     * @throws IOException if the copy fails
+     */
+    private void copy(Path source, String timestamp) throws IOException {
+        // Only copy if the original file exists
+        if (Files.exists(source)) {
+            String newFileName = source.toString().replace(".html", "_" + timestamp + ".html");
+            Files.copy(source, Paths.get(newFileName), StandardCopyOption.REPLACE_EXISTING);
+            LOGGER.info("Successfully copied report to timestamped file: " + newFileName);
+        } else {
+            LOGGER.warning("Could not find report file to copy: " + source);
         }
     }
 
@@ -57,5 +246,4 @@ public class TimeStampedReportCopier implements ITestListener {
     @Override public void onTestFailure(ITestResult result) {}
     @Override public void onTestSkipped(ITestResult result) {}
     @Override public void onTestFailedButWithinSuccessPercentage(ITestResult result) {}
-    @Override public void onStart(ITestContext context) {}
-} 
\ No newline at end of file
+}